@@ -0,0 +1,37 @@
+package com.yansb.admin.api.application.castMember.imports;
+
+import com.yansb.admin.api.application.castMember.create.CreateCastMemberCommand;
+import com.yansb.admin.api.application.imports.BatchImporter;
+import com.yansb.admin.api.application.imports.ImportOutput;
+import com.yansb.admin.api.domain.castMember.CastMember;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+public class DefaultImportCastMembersUseCase extends ImportCastMembersUseCase {
+
+    private final BatchImporter<CreateCastMemberCommand, CastMember> importer;
+
+    public DefaultImportCastMembersUseCase(
+            final CastMemberGateway castMemberGateway,
+            final int batchSize,
+            final int maxReportedErrors
+    ) {
+        Objects.requireNonNull(castMemberGateway);
+        this.importer = new BatchImporter<>(batchSize, maxReportedErrors, this::validator, castMemberGateway::createAll);
+    }
+
+    @Override
+    public ImportOutput execute(final Iterator<CreateCastMemberCommand> commands) {
+        return this.importer.importAll(commands);
+    }
+
+    private BiFunction<CreateCastMemberCommand, Notification, CastMember> validator(final List<CreateCastMemberCommand> batch) {
+        return (aCommand, notification) ->
+                notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+    }
+}
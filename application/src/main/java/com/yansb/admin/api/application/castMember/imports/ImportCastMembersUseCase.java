@@ -0,0 +1,10 @@
+package com.yansb.admin.api.application.castMember.imports;
+
+import com.yansb.admin.api.application.UseCase;
+import com.yansb.admin.api.application.castMember.create.CreateCastMemberCommand;
+import com.yansb.admin.api.application.imports.ImportOutput;
+
+import java.util.Iterator;
+
+public abstract class ImportCastMembersUseCase extends UseCase<Iterator<CreateCastMemberCommand>, ImportOutput> {
+}
@@ -0,0 +1,40 @@
+package com.yansb.admin.api.application.category.imports;
+
+import com.yansb.admin.api.application.category.create.CreateCategoryCommand;
+import com.yansb.admin.api.application.imports.BatchImporter;
+import com.yansb.admin.api.application.imports.ImportOutput;
+import com.yansb.admin.api.domain.category.Category;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final BatchImporter<CreateCategoryCommand, Category> importer;
+
+    public DefaultImportCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final int batchSize,
+            final int maxReportedErrors
+    ) {
+        Objects.requireNonNull(categoryGateway);
+        this.importer = new BatchImporter<>(batchSize, maxReportedErrors, this::validator, categoryGateway::createAll);
+    }
+
+    @Override
+    public ImportOutput execute(final Iterator<CreateCategoryCommand> commands) {
+        return this.importer.importAll(commands);
+    }
+
+    private BiFunction<CreateCategoryCommand, Notification, Category> validator(final List<CreateCategoryCommand> batch) {
+        return (aCommand, notification) -> {
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+            return aCategory;
+        };
+    }
+}
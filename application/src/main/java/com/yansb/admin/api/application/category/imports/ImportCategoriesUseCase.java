@@ -0,0 +1,10 @@
+package com.yansb.admin.api.application.category.imports;
+
+import com.yansb.admin.api.application.UseCase;
+import com.yansb.admin.api.application.category.create.CreateCategoryCommand;
+import com.yansb.admin.api.application.imports.ImportOutput;
+
+import java.util.Iterator;
+
+public abstract class ImportCategoriesUseCase extends UseCase<Iterator<CreateCategoryCommand>, ImportOutput> {
+}
@@ -0,0 +1,85 @@
+package com.yansb.admin.api.application.genre.imports;
+
+import com.yansb.admin.api.application.genre.create.CreateGenreCommand;
+import com.yansb.admin.api.application.imports.BatchImporter;
+import com.yansb.admin.api.application.imports.ImportOutput;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.genre.Genre;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+public class DefaultImportGenresUseCase extends ImportGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final BatchImporter<CreateGenreCommand, Genre> importer;
+
+    public DefaultImportGenresUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int batchSize,
+            final int maxReportedErrors
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        Objects.requireNonNull(genreGateway);
+        this.importer = new BatchImporter<>(batchSize, maxReportedErrors, this::validator, genreGateway::createAll);
+    }
+
+    @Override
+    public ImportOutput execute(final Iterator<CreateGenreCommand> commands) {
+        return this.importer.importAll(commands);
+    }
+
+    private BiFunction<CreateGenreCommand, Notification, Genre> validator(final List<CreateGenreCommand> batch) {
+        final var existing = existingCategories(batch);
+
+        return (aCommand, notification) -> {
+            final var categories = toCategoryID(aCommand.categories());
+
+            final var missingIdsMessage = categories.stream()
+                    .filter(id -> !existing.contains(id))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            if (!missingIdsMessage.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+            }
+
+            final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+
+            if (notification.hasError()) {
+                return null;
+            }
+
+            return aGenre.addCategories(categories);
+        };
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> batch) {
+        final var ids = new HashSet<CategoryID>();
+        batch.forEach(aCommand -> ids.addAll(toCategoryID(aCommand.categories())));
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+
+    private List<CategoryID> toCategoryID(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+        return categories.stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+}
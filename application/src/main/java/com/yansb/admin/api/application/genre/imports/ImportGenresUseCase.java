@@ -0,0 +1,10 @@
+package com.yansb.admin.api.application.genre.imports;
+
+import com.yansb.admin.api.application.UseCase;
+import com.yansb.admin.api.application.genre.create.CreateGenreCommand;
+import com.yansb.admin.api.application.imports.ImportOutput;
+
+import java.util.Iterator;
+
+public abstract class ImportGenresUseCase extends UseCase<Iterator<CreateGenreCommand>, ImportOutput> {
+}
@@ -0,0 +1,124 @@
+package com.yansb.admin.api.application.imports;
+
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams commands into aggregates and writes them {@code batchSize} at a time, so memory is bounded by one batch
+ * plus the first {@code maxReportedErrors} errors whatever the size of the input. Each write is expected to run in
+ * its own transaction; batches written before a failure stay committed.
+ */
+public class BatchImporter<C, A> {
+
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Function<List<C>, BiFunction<C, Notification, A>> validator;
+    private final Consumer<List<A>> writer;
+
+    /**
+     * @param validator given a batch, returns the function that builds the aggregate of one of its commands,
+     *                  appending any error to the notification. Batch-wide lookups belong in the outer function.
+     * @param writer    persists the valid aggregates of a batch
+     */
+    public BatchImporter(
+            final int batchSize,
+            final int maxReportedErrors,
+            final Function<List<C>, BiFunction<C, Notification, A>> validator,
+            final Consumer<List<A>> writer
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero");
+        }
+        this.batchSize = batchSize;
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+        this.validator = Objects.requireNonNull(validator);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    /**
+     * Reads every command; an iterator signals an unreadable record by throwing a {@link DomainException} from
+     * {@code next()} and is expected to move on to the following record.
+     */
+    public ImportOutput importAll(final Iterator<C> commands) {
+        final var progress = new Progress();
+        final var batch = new ArrayList<C>(this.batchSize);
+        final var positions = new ArrayList<Long>(this.batchSize);
+
+        while (commands.hasNext()) {
+            final var position = ++progress.read;
+            try {
+                batch.add(commands.next());
+                positions.add(position);
+            } catch (final DomainException e) {
+                progress.reject(position, e.getErrors());
+            }
+
+            if (batch.size() == this.batchSize) {
+                write(batch, positions, progress);
+            }
+        }
+
+        write(batch, positions, progress);
+        return new ImportOutput(progress.imported, progress.rejected, List.copyOf(progress.errors.getErrors()));
+    }
+
+    private void write(final List<C> batch, final List<Long> positions, final Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var toAggregate = this.validator.apply(batch);
+        final var aggregates = new ArrayList<A>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var notification = Notification.create();
+            final var anAggregate = toAggregate.apply(batch.get(i), notification);
+
+            if (notification.hasError() || anAggregate == null) {
+                progress.reject(positions.get(i), notification.getErrors());
+            } else {
+                aggregates.add(anAggregate);
+            }
+        }
+
+        if (!aggregates.isEmpty()) {
+            try {
+                this.writer.accept(aggregates);
+            } catch (final Throwable t) {
+                throw InternalErrorException.with("An error on importing records %s to %s was observed after %s were imported"
+                        .formatted(positions.get(0), positions.get(positions.size() - 1), progress.imported), t);
+            }
+            progress.imported += aggregates.size();
+        }
+
+        batch.clear();
+        positions.clear();
+    }
+
+    private final class Progress {
+        private final Notification errors = Notification.create();
+        private long read;
+        private long imported;
+        private long rejected;
+
+        private void reject(final long position, final List<Error> someErrors) {
+            this.rejected++;
+            for (final var anError : someErrors) {
+                if (this.errors.getErrors().size() >= maxReportedErrors) {
+                    return;
+                }
+                this.errors.append(new Error("record %s: %s".formatted(position, anError.message())));
+            }
+        }
+    }
+}
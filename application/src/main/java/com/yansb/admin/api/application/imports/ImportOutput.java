@@ -0,0 +1,8 @@
+package com.yansb.admin.api.application.imports;
+
+import com.yansb.admin.api.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportOutput(long imported, long rejected, List<Error> errors) {
+}
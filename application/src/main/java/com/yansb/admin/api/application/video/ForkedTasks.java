@@ -0,0 +1,98 @@
+package com.yansb.admin.api.application.video;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+final class ForkedTasks {
+
+    private ForkedTasks() {
+    }
+
+    /**
+     * Runs the tasks that are not done yet on the executor and waits for all of them. A single pending task, or
+     * one the executor rejects, runs on the calling thread. The first task to fail cancels the others, and so does
+     * an interrupt while waiting. Returns the failure of the first failed task, in the given order.
+     */
+    static Optional<Throwable> forkAndAwait(final Executor executor, final Collection<? extends FutureTask<?>> tasks) {
+        final var pending = tasks.stream()
+                .filter(it -> !it.isDone())
+                .toList();
+
+        if (pending.size() == 1) {
+            pending.get(0).run();
+        } else if (!pending.isEmpty()) {
+            final var finished = new CountDownLatch(pending.size());
+            pending.forEach(it -> start(executor, it, pending, finished));
+            await(finished, pending);
+        }
+
+        return tasks.stream()
+                .map(ForkedTasks::failureOf)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private static void start(
+            final Executor executor,
+            final FutureTask<?> aTask,
+            final Collection<? extends FutureTask<?>> tasks,
+            final CountDownLatch finished
+    ) {
+        final Runnable task = () -> {
+            try {
+                aTask.run();
+                if (failureOf(aTask).isPresent()) {
+                    cancelAll(tasks);
+                }
+            } finally {
+                finished.countDown();
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private static void await(final CountDownLatch finished, final Collection<? extends FutureTask<?>> tasks) {
+        var interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+                cancelAll(tasks);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<Throwable> failureOf(final FutureTask<?> aTask) {
+        if (!aTask.isDone() || aTask.isCancelled()) {
+            return Optional.empty();
+        }
+        try {
+            aTask.get();
+            return Optional.empty();
+        } catch (final ExecutionException e) {
+            return Optional.of(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static void cancelAll(final Collection<? extends FutureTask<?>> tasks) {
+        tasks.forEach(it -> it.cancel(true));
+    }
+}
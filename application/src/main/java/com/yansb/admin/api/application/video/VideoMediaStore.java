@@ -0,0 +1,70 @@
+package com.yansb.admin.api.application.video;
+
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.video.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+public class VideoMediaStore {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor executor;
+
+    public VideoMediaStore(final MediaResourceGateway mediaResourceGateway, final Executor executor) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Video storeAll(final Video aVideo, final Map<VideoMediaType, Resource> resources) {
+        final var anId = aVideo.getId();
+        final var uploads = new EnumMap<VideoMediaType, FutureTask<Object>>(VideoMediaType.class);
+        resources.forEach((type, resource) ->
+                uploads.put(type, new FutureTask<>(() -> store(anId, VideoResource.with(resource, type)))));
+
+        final var failure = ForkedTasks.forkAndAwait(this.executor, uploads.values());
+
+        if (failure.isPresent()) {
+            throw failure.get() instanceof RuntimeException ex ? ex : InternalErrorException.with(
+                    "An error on storing media was observed [videoId:%s]".formatted(anId.getValue()), failure.get());
+        }
+
+        return aVideo
+                .updateVideoMedia(resultOf(anId, uploads, VideoMediaType.VIDEO))
+                .updateTrailerMedia(resultOf(anId, uploads, VideoMediaType.TRAILER))
+                .updateBannerMedia(resultOf(anId, uploads, VideoMediaType.BANNER))
+                .updateThumbnailMedia(resultOf(anId, uploads, VideoMediaType.THUMBNAIL))
+                .updateThumbnailHalfMedia(resultOf(anId, uploads, VideoMediaType.THUMBNAIL_HALF));
+    }
+
+    private Object store(final VideoID anId, final VideoResource aResource) {
+        return switch (aResource.type()) {
+            case VIDEO, TRAILER -> this.mediaResourceGateway.storeAudioVideo(anId, aResource);
+            default -> this.mediaResourceGateway.storeImage(anId, aResource);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resultOf(
+            final VideoID anId,
+            final Map<VideoMediaType, FutureTask<Object>> uploads,
+            final VideoMediaType aType
+    ) {
+        final var upload = uploads.get(aType);
+        if (upload == null) {
+            return null;
+        }
+
+        try {
+            return (T) upload.get();
+        } catch (final CancellationException | ExecutionException | InterruptedException e) {
+            throw InternalErrorException.with("Media %s upload was cancelled [videoId:%s]"
+                    .formatted(aType.name(), anId.getValue()), e);
+        }
+    }
+}
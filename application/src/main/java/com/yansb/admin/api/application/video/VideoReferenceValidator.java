@@ -0,0 +1,134 @@
+package com.yansb.admin.api.application.video;
+
+import com.yansb.admin.api.domain.Identifier;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.castMember.CastMemberID;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class VideoReferenceValidator {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final Executor executor;
+
+    public VideoReferenceValidator(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final Executor executor
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Notification validate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        return validate(lookup(categories, genres, members), categories, genres, members);
+    }
+
+    /**
+     * Checks the given references against ids already known to exist, so a batch of videos can share a single
+     * {@link #lookup(Set, Set, Set)} of the union of their references.
+     */
+    public Notification validate(
+            final References existing,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        final var notification = Notification.create();
+        validateAggregate("categories", categories, existing.categories(), notification);
+        validateAggregate("genres", genres, existing.genres(), notification);
+        validateAggregate("members", members, existing.members(), notification);
+        return notification;
+    }
+
+    public References lookup(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        final var categoryLookup = lookup(categories, categoryGateway::existsByIds);
+        final var genreLookup = lookup(genres, genreGateway::existsByIds);
+        final var memberLookup = lookup(members, castMemberGateway::existsByIds);
+        final List<FutureTask<?>> lookups = List.of(categoryLookup, genreLookup, memberLookup);
+
+        final var failure = ForkedTasks.forkAndAwait(this.executor, lookups);
+
+        if (failure.isPresent()) {
+            throw failure.get() instanceof RuntimeException ex ? ex : InternalErrorException.with(
+                    "An error on validating video references was observed", failure.get());
+        }
+
+        return new References(resultOf(categoryLookup), resultOf(genreLookup), resultOf(memberLookup));
+    }
+
+    private <T extends Identifier> FutureTask<Set<T>> lookup(
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var isEmpty = ids == null || ids.isEmpty();
+        final var lookup = new FutureTask<Set<T>>(() -> isEmpty ? Set.of() : Set.copyOf(existsByIds.apply(ids)));
+        if (isEmpty) {
+            lookup.run();
+        }
+        return lookup;
+    }
+
+    private <T extends Identifier> void validateAggregate(
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existing,
+            final Notification notification
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        final var missingIdsMessage = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some %s could not be found %s".formatted(aggregate, missingIdsMessage)));
+        }
+    }
+
+    private <R> R resultOf(final FutureTask<R> lookup) {
+        try {
+            return lookup.get();
+        } catch (final CancellationException | ExecutionException | InterruptedException e) {
+            throw InternalErrorException.with("Video references validation was cancelled", e);
+        }
+    }
+
+    public record References(
+            Set<CategoryID> categories,
+            Set<GenreID> genres,
+            Set<CastMemberID> members
+    ) {
+    }
+}
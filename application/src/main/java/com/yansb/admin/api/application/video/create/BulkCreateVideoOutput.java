@@ -0,0 +1,18 @@
+package com.yansb.admin.api.application.video.create;
+
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.ValidationHandler;
+import com.yansb.admin.api.domain.video.Video;
+
+import java.util.List;
+
+public record BulkCreateVideoOutput(String id, List<Error> errors) {
+
+  public static BulkCreateVideoOutput created(final Video aVideo) {
+    return new BulkCreateVideoOutput(aVideo.getId().getValue(), List.of());
+  }
+
+  public static BulkCreateVideoOutput failed(final ValidationHandler aHandler) {
+    return new BulkCreateVideoOutput(null, List.copyOf(aHandler.getErrors()));
+  }
+}
@@ -0,0 +1,8 @@
+package com.yansb.admin.api.application.video.create;
+
+import com.yansb.admin.api.application.UseCase;
+
+import java.util.List;
+
+public abstract class BulkCreateVideoUseCase extends UseCase<List<CreateVideoCommand>, List<BulkCreateVideoOutput>> {
+}
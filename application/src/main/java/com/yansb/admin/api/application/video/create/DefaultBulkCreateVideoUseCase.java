@@ -0,0 +1,91 @@
+package com.yansb.admin.api.application.video.create;
+
+import com.yansb.admin.api.application.video.VideoReferenceValidator;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+public class DefaultBulkCreateVideoUseCase extends BulkCreateVideoUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final VideoGateway videoGateway;
+    private final VideoReferenceValidator referenceValidator;
+
+    public DefaultBulkCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final Executor validationExecutor
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.referenceValidator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, validationExecutor);
+    }
+
+    @Override
+    public List<BulkCreateVideoOutput> execute(final List<CreateVideoCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return List.of();
+        }
+        if (commands.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("A bulk create accepts at most %s videos".formatted(MAX_ITEMS)));
+        }
+
+        final var items = commands.stream().map(VideoFactory::from).toList();
+        final var existing = this.referenceValidator.lookup(
+                union(items, VideoFactory::categories),
+                union(items, VideoFactory::genres),
+                union(items, VideoFactory::members)
+        );
+
+        final var outputs = new ArrayList<BulkCreateVideoOutput>(items.size());
+        final var videos = new ArrayList<Video>(items.size());
+
+        for (final var item : items) {
+            final var notification = this.referenceValidator.validate(existing, item.categories(), item.genres(), item.members());
+            final var aVideo = item.newVideo(notification);
+
+            if (notification.hasError()) {
+                outputs.add(BulkCreateVideoOutput.failed(notification));
+            } else {
+                outputs.add(BulkCreateVideoOutput.created(aVideo));
+                videos.add(aVideo);
+            }
+        }
+
+        create(videos);
+        return outputs;
+    }
+
+    private void create(final List<Video> videos) {
+        if (videos.isEmpty()) {
+            return;
+        }
+        try {
+            this.videoGateway.createAll(videos);
+        } catch (final Throwable t) {
+            throw InternalErrorException.with("An error on bulk creating %s videos was observed"
+                    .formatted(videos.size()), t);
+        }
+    }
+
+    private static <T> Set<T> union(final List<VideoFactory> items, final Function<VideoFactory, Set<T>> ids) {
+        final var union = new HashSet<T>();
+        items.forEach(it -> union.addAll(ids.apply(it)));
+        return union;
+    }
+}
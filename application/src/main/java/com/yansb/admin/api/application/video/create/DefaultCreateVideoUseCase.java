@@ -1,72 +1,51 @@
 package com.yansb.admin.api.application.video.create;
 
-import com.yansb.admin.api.domain.Identifier;
+import com.yansb.admin.api.application.video.VideoMediaStore;
+import com.yansb.admin.api.application.video.VideoReferenceValidator;
 import com.yansb.admin.api.domain.castMember.CastMemberGateway;
-import com.yansb.admin.api.domain.castMember.CastMemberID;
 import com.yansb.admin.api.domain.category.CategoryGateway;
-import com.yansb.admin.api.domain.category.CategoryID;
 import com.yansb.admin.api.domain.exceptions.InternalErrorException;
 import com.yansb.admin.api.domain.exceptions.NotificationException;
 import com.yansb.admin.api.domain.genre.GenreGateway;
-import com.yansb.admin.api.domain.genre.GenreID;
-import com.yansb.admin.api.domain.validation.Error;
-import com.yansb.admin.api.domain.validation.ValidationHandler;
 import com.yansb.admin.api.domain.validation.handler.Notification;
 import com.yansb.admin.api.domain.video.*;
 
-import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
     private final VideoGateway videoGateway;
     private final MediaResourceGateway mediaResourceGateway;
-
-    public DefaultCreateVideoUseCase(CategoryGateway categoryGateway, GenreGateway genreGateway, CastMemberGateway castMemberGateway, VideoGateway videoGateway, MediaResourceGateway mediaResourceGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    private final VideoMediaStore videoMediaStore;
+    private final VideoReferenceValidator referenceValidator;
+
+    public DefaultCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor mediaExecutor,
+            final Executor validationExecutor
+    ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoMediaStore = new VideoMediaStore(mediaResourceGateway, mediaExecutor);
+        this.referenceValidator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, validationExecutor);
     }
 
 
     @Override
     public CreateVideoOutput execute(final CreateVideoCommand aCommand) {
         final var notification = Notification.create();
-        final var aRating = Rating.of(aCommand.rating())
-                .orElse(null);
-        final var aLaunchYear = aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null;
-        final var categories = toIdentifier(aCommand.categories(), CategoryID::from);
-        final var genres = toIdentifier(aCommand.genres(), GenreID::from);
-        final var members = toIdentifier(aCommand.members(), CastMemberID::from);
+        final var aFactory = VideoFactory.from(aCommand);
 
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        notification.append(this.referenceValidator.validate(aFactory.categories(), aFactory.genres(), aFactory.members()));
 
-        final var aVideo = Video.newVideo(
-                aCommand.title(),
-                aCommand.description(),
-                aLaunchYear,
-                aCommand.duration(),
-                aCommand.opened(),
-                aCommand.published(),
-                aRating,
-                categories,
-                genres,
-                members
-        );
-
-        aVideo.validate(notification);
+        final var aVideo = aFactory.newVideo(notification);
 
         if (notification.hasError()) {
             throw new NotificationException("Could not create Aggregate Video", notification);
@@ -78,34 +57,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
         try {
-
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.VIDEO)))
-                    .orElse(null);
-
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.TRAILER)))
-                    .orElse(null);
-
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.BANNER)))
-                    .orElse(null);
-
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL)))
-                    .orElse(null);
-
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF)))
-                    .orElse(null);
-
-            return videoGateway.create(
-                    aVideo
-                            .updateVideoMedia(aVideoMedia)
-                            .updateTrailerMedia(aTrailerMedia)
-                            .updateBannerMedia(aBannerMedia)
-                            .updateThumbnailMedia(aThumbnailMedia)
-                            .updateThumbnailHalfMedia(aThumbHalfMedia));
+            return videoGateway.create(this.videoMediaStore.storeAll(aVideo, resourcesOf(aCommand)));
         } catch (final Throwable t) {
             this.mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with("An error on creating video was observed [videoId:%s]"
@@ -113,47 +65,13 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> categories) {
-        return validateAggregate("categories", categories, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> genres) {
-        return validateAggregate("genres", genres, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> members) {
-        return validateAggregate("members", members, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrieveIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrieveIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrieveIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
-    private <T> Set<T> toIdentifier(final Set<String> values, final Function<String, T> mapper) {
-        return values.stream()
-                .map(mapper)
-                .collect(Collectors.toSet());
+    private Map<VideoMediaType, Resource> resourcesOf(final CreateVideoCommand aCommand) {
+        final var resources = new EnumMap<VideoMediaType, Resource>(VideoMediaType.class);
+        aCommand.getVideo().ifPresent(it -> resources.put(VideoMediaType.VIDEO, it));
+        aCommand.getTrailer().ifPresent(it -> resources.put(VideoMediaType.TRAILER, it));
+        aCommand.getBanner().ifPresent(it -> resources.put(VideoMediaType.BANNER, it));
+        aCommand.getThumbnail().ifPresent(it -> resources.put(VideoMediaType.THUMBNAIL, it));
+        aCommand.getThumbnailHalf().ifPresent(it -> resources.put(VideoMediaType.THUMBNAIL_HALF, it));
+        return resources;
     }
 }
@@ -0,0 +1,85 @@
+package com.yansb.admin.api.application.video.create;
+
+import com.yansb.admin.api.domain.castMember.CastMemberID;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+import com.yansb.admin.api.domain.video.Rating;
+import com.yansb.admin.api.domain.video.Video;
+
+import java.time.Year;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps a {@link CreateVideoCommand} to a new {@link Video}, so single and bulk creates accept and reject the same
+ * input: missing flags mean false, missing references mean none and a missing duration is a validation error.
+ */
+final class VideoFactory {
+
+    private final CreateVideoCommand command;
+    private final Set<CategoryID> categories;
+    private final Set<GenreID> genres;
+    private final Set<CastMemberID> members;
+
+    private VideoFactory(final CreateVideoCommand aCommand) {
+        this.command = Objects.requireNonNull(aCommand);
+        this.categories = toIdentifier(aCommand.categories(), CategoryID::from);
+        this.genres = toIdentifier(aCommand.genres(), GenreID::from);
+        this.members = toIdentifier(aCommand.members(), CastMemberID::from);
+    }
+
+    static VideoFactory from(final CreateVideoCommand aCommand) {
+        return new VideoFactory(aCommand);
+    }
+
+    Set<CategoryID> categories() {
+        return categories;
+    }
+
+    Set<GenreID> genres() {
+        return genres;
+    }
+
+    Set<CastMemberID> members() {
+        return members;
+    }
+
+    /**
+     * Returns {@code null} when the command cannot build a video at all, with the reason appended to the notification.
+     */
+    Video newVideo(final Notification notification) {
+        if (command.duration() == null) {
+            notification.append(new Error("'duration' should not be null"));
+            return null;
+        }
+
+        final var aVideo = Video.newVideo(
+                command.title(),
+                command.description(),
+                command.launchedAt() != null ? Year.of(command.launchedAt()) : null,
+                command.duration(),
+                Boolean.TRUE.equals(command.opened()),
+                Boolean.TRUE.equals(command.published()),
+                Rating.of(command.rating()).orElse(null),
+                categories,
+                genres,
+                members
+        );
+
+        aVideo.validate(notification);
+        return aVideo;
+    }
+
+    private static <T> Set<T> toIdentifier(final Set<String> values, final Function<String, T> mapper) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
@@ -22,9 +22,8 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
         final var aType = VideoMediaType.of(aCmd.mediaType())
                 .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
 
-        final var aResource =
-                this.mediaResourceGateway.getResource(anId, aType)
-                        .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
+        final var aResource = this.mediaResourceGateway.getResource(anId, aType)
+                .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
 
         return MediaOutput.with(aResource);
     }
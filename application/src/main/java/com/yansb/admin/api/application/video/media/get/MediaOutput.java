@@ -3,15 +3,35 @@ package com.yansb.admin.api.application.video.media.get;
 import com.yansb.admin.api.domain.video.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        Resource.ContentStream content,
+        Resource.RangedContentStream ranges,
+        long size,
+        String checksum,
         String contentType,
         String name
 ) {
     public static MediaOutput with(final Resource aResource) {
         return new MediaOutput(
-                aResource.content(),
+                aResource::openStream,
+                aResource::openStream,
+                aResource.size(),
+                aResource.checksum(),
                 aResource.contentType(),
                 aResource.name()
         );
     }
+
+    /**
+     * A view of {@code length} bytes starting at {@code offset}, read from the already resolved media.
+     */
+    public MediaOutput slice(final long offset, final long length) {
+        return new MediaOutput(
+                () -> ranges.open(offset, length),
+                (anOffset, aLength) -> ranges.open(offset + anOffset, Math.min(aLength, length - anOffset)),
+                length,
+                checksum,
+                contentType,
+                name
+        );
+    }
 }
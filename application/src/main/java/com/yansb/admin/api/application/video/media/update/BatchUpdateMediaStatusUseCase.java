@@ -0,0 +1,8 @@
+package com.yansb.admin.api.application.video.media.update;
+
+import com.yansb.admin.api.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class BatchUpdateMediaStatusUseCase extends UnitUseCase<List<UpdateMediaStatusCommand>> {
+}
@@ -0,0 +1,32 @@
+package com.yansb.admin.api.application.video.media.update;
+
+import com.yansb.admin.api.domain.video.VideoGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchUpdateMediaStatusUseCase extends BatchUpdateMediaStatusUseCase {
+    private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+
+    public DefaultBatchUpdateMediaStatusUseCase(final VideoGateway videoGateway) {
+        this.updateMediaStatusUseCase = new DefaultUpdateMediaStatusUseCase(Objects.requireNonNull(videoGateway));
+    }
+
+    @Override
+    public void execute(final List<UpdateMediaStatusCommand> someCommands) {
+        RuntimeException failure = null;
+        for (final var aCmd : someCommands) {
+            try {
+                this.updateMediaStatusUseCase.execute(aCmd);
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.yansb.admin.api.application.video.media.update;
 
 import com.yansb.admin.api.domain.exceptions.NotFoundException;
-import com.yansb.admin.api.domain.video.*;
+import com.yansb.admin.api.domain.video.MediaStatus;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoID;
 
 import java.util.Objects;
 
-import static com.yansb.admin.api.domain.video.VideoMediaType.TRAILER;
-import static com.yansb.admin.api.domain.video.VideoMediaType.VIDEO;
-
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     private final VideoGateway videoGateway;
 
@@ -18,42 +18,20 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     @Override
     public void execute(UpdateMediaStatusCommand aCmd) {
         final var anId = VideoID.from(aCmd.videoId());
-        final var aResourceId = aCmd.resourceId();
-        final var folder = aCmd.folder();
-        final var filename = aCmd.filename();
-
-        final var aVideo = this.videoGateway.findById(anId)
-                .orElseThrow(() -> notFound(anId));
-
-        final var encodedPath = "%s/%s".formatted(folder, filename);
 
-        if (matches(aResourceId, aVideo.getVideo().orElse(null))) {
-            updateVideo(VIDEO, aCmd.status(), aVideo, encodedPath);
-        } else if (matches(aResourceId, aVideo.getTrailer().orElse(null))) {
-            updateVideo(TRAILER, aCmd.status(), aVideo, encodedPath);
+        if (aCmd.status() == MediaStatus.PENDING) {
+            return;
         }
-    }
 
-    private void updateVideo(final VideoMediaType aType, MediaStatus aStatus, Video aVideo, String encodedPath) {
-        switch (aStatus) {
-            case PENDING -> {
-            }
-            case PROCESSING -> aVideo.procesing(aType);
-            case COMPLETED -> aVideo.completed(aType, encodedPath);
+        final var encodedPath = aCmd.status() == MediaStatus.COMPLETED
+                ? "%s/%s".formatted(aCmd.folder(), aCmd.filename())
+                : null;
 
-        }
-        this.videoGateway.update(aVideo);
-    }
+        final var updated =
+                this.videoGateway.updateMediaStatus(anId, aCmd.resourceId(), aCmd.status(), encodedPath);
 
-    private boolean matches(final String resourceId, final AudioVideoMedia aMedia) {
-        if (aMedia == null) {
-            return false;
+        if (!updated && !this.videoGateway.existsById(anId)) {
+            throw NotFoundException.with(Video.class, anId);
         }
-
-        return aMedia.id().equals(resourceId);
-    }
-
-    private NotFoundException notFound(VideoID anId) {
-        return NotFoundException.with(Video.class, anId);
     }
 }
@@ -1,6 +1,7 @@
 package com.yansb.admin.api.application.video.update;
 
-import com.yansb.admin.api.domain.Identifier;
+import com.yansb.admin.api.application.video.VideoMediaStore;
+import com.yansb.admin.api.application.video.VideoReferenceValidator;
 import com.yansb.admin.api.domain.castMember.CastMemberGateway;
 import com.yansb.admin.api.domain.castMember.CastMemberID;
 import com.yansb.admin.api.domain.category.CategoryGateway;
@@ -11,34 +12,37 @@ import com.yansb.admin.api.domain.exceptions.NotFoundException;
 import com.yansb.admin.api.domain.exceptions.NotificationException;
 import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
-import com.yansb.admin.api.domain.validation.Error;
-import com.yansb.admin.api.domain.validation.ValidationHandler;
 import com.yansb.admin.api.domain.validation.handler.Notification;
 import com.yansb.admin.api.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
     private final VideoGateway videoGateway;
-    private final MediaResourceGateway mediaResourceGateway;
-
-    public DefaultUpdateVideoUseCase(CategoryGateway categoryGateway, GenreGateway genreGateway, CastMemberGateway castMemberGateway, VideoGateway videoGateway, MediaResourceGateway mediaResourceGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    private final VideoMediaStore videoMediaStore;
+    private final VideoReferenceValidator referenceValidator;
+
+    public DefaultUpdateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor mediaExecutor,
+            final Executor validationExecutor
+    ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
-        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoMediaStore = new VideoMediaStore(mediaResourceGateway, mediaExecutor);
+        this.referenceValidator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, validationExecutor);
     }
 
     @Override
@@ -55,9 +59,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(notFoundException(anId));
 
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        notification.append(this.referenceValidator.validate(categories, genres, members));
 
         aVideo.update(
                 aCommand.title(),
@@ -83,33 +85,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private Video update(final UpdateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
         try {
-
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.VIDEO)))
-                    .orElse(null);
-
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.TRAILER)))
-                    .orElse(null);
-
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.BANNER)))
-                    .orElse(null);
-
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL)))
-                    .orElse(null);
-
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF)))
-                    .orElse(null);
-
-            return videoGateway.update(aVideo
-                    .updateVideoMedia(aVideoMedia)
-                    .updateTrailerMedia(aTrailerMedia)
-                    .updateBannerMedia(aBannerMedia)
-                    .updateThumbnailMedia(aThumbnailMedia)
-                    .updateThumbnailHalfMedia(aThumbHalfMedia));
+            return videoGateway.update(this.videoMediaStore.storeAll(aVideo, resourcesOf(aCommand)));
         } catch (final Throwable t) {
             throw InternalErrorException.with("An error on updating video was observed [videoId:%s]"
                     .formatted(anId.getValue()), t);
@@ -120,42 +96,14 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, anId);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> categories) {
-        return validateAggregate("categories", categories, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> genres) {
-        return validateAggregate("genres", genres, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> members) {
-        return validateAggregate("members", members, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrieveIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrieveIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrieveIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
+    private Map<VideoMediaType, Resource> resourcesOf(final UpdateVideoCommand aCommand) {
+        final var resources = new EnumMap<VideoMediaType, Resource>(VideoMediaType.class);
+        aCommand.getVideo().ifPresent(it -> resources.put(VideoMediaType.VIDEO, it));
+        aCommand.getTrailer().ifPresent(it -> resources.put(VideoMediaType.TRAILER, it));
+        aCommand.getBanner().ifPresent(it -> resources.put(VideoMediaType.BANNER, it));
+        aCommand.getThumbnail().ifPresent(it -> resources.put(VideoMediaType.THUMBNAIL, it));
+        aCommand.getThumbnailHalf().ifPresent(it -> resources.put(VideoMediaType.THUMBNAIL_HALF, it));
+        return resources;
     }
 
     private <T> Set<T> toIdentifier(final Set<String> values, final Function<String, T> mapper) {
@@ -0,0 +1,88 @@
+package com.yansb.admin.api.application.genre.imports;
+
+import com.yansb.admin.api.application.UseCaseTest;
+import com.yansb.admin.api.application.genre.create.CreateGenreCommand;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.genre.Genre;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ImportGenresUseCaseTest extends UseCaseTest {
+
+    private DefaultImportGenresUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultImportGenresUseCase(categoryGateway, genreGateway, 2, 10);
+    }
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenGenresInManyBatches_whenCallsImport_shouldLookUpCategoriesOncePerBatchAndWriteOnlyValidGenres() {
+        //given
+        final var movies = CategoryID.from("movies");
+        final var series = CategoryID.from("series");
+
+        final var commands = List.of(
+                CreateGenreCommand.with("Action", true, List.of(movies.getValue())),
+                CreateGenreCommand.with("Drama", true, List.of(movies.getValue(), "missing")),
+                CreateGenreCommand.with(null, true, List.of()),
+                CreateGenreCommand.with("Horror", false, List.of(series.getValue()))
+        );
+
+        final var expectedErrors = List.of(
+                new Error("record 2: Some categories could not be found: missing"),
+                new Error("record 3: 'name' should not be null")
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(movies))
+                .thenReturn(List.of(series));
+        when(genreGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        //when
+        final var actualOutput = useCase.execute(commands.iterator());
+
+        //then
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(expectedErrors, actualOutput.errors());
+
+        verify(categoryGateway, times(1)).existsByIds(eq(Set.of(movies, CategoryID.from("missing"))));
+        verify(categoryGateway, times(1)).existsByIds(eq(Set.of(series)));
+
+        final var batchesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(genreGateway, times(2)).createAll(batchesCaptor.capture());
+
+        final var actualBatches = batchesCaptor.getAllValues().stream()
+                .map(batch -> ((List<Genre>) batch).stream().map(Genre::getName).toList())
+                .toList();
+
+        Assertions.assertEquals(List.of(List.of("Action"), List.of("Horror")), actualBatches);
+    }
+}
@@ -0,0 +1,127 @@
+package com.yansb.admin.api.application.imports;
+
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+@Tag("unitTest")
+public class BatchImporterTest {
+
+    private static final String UNREADABLE = "unreadable";
+
+    @Test
+    public void givenValidInvalidAndUnreadableRecords_whenCallsImportAll_shouldWriteValidOnesInBatchesAndReportTheOthers() {
+        //given
+        final var records = List.of("a", "", "b", UNREADABLE, "c", "d", "e");
+        final var batches = new ArrayList<List<String>>();
+        final var lookups = new ArrayList<Integer>();
+
+        final var expectedBatches = List.of(List.of("A", "B"), List.of("C", "D", "E"));
+        final var expectedErrors = List.of(
+                new Error("record 2: 'name' should not be empty"),
+                new Error("record 4: Malformed JSON")
+        );
+
+        final var importer = new BatchImporter<String, String>(
+                3,
+                10,
+                batch -> {
+                    lookups.add(batch.size());
+                    return uppercase();
+                },
+                batches::add
+        );
+
+        //when
+        final var actualOutput = importer.importAll(readerOf(records));
+
+        //then
+        Assertions.assertEquals(5, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(expectedErrors, actualOutput.errors());
+        Assertions.assertEquals(expectedBatches, batches);
+        Assertions.assertEquals(List.of(3, 3), lookups);
+    }
+
+    @Test
+    public void givenMoreInvalidRecordsThanReported_whenCallsImportAll_shouldCountAllButKeepOnlyTheFirstErrors() {
+        //given
+        final var records = IntStream.range(0, 50).mapToObj(i -> "").toList();
+        final var batches = new ArrayList<List<String>>();
+
+        final var importer = new BatchImporter<String, String>(10, 5, batch -> uppercase(), batches::add);
+
+        //when
+        final var actualOutput = importer.importAll(readerOf(records));
+
+        //then
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(50, actualOutput.rejected());
+        Assertions.assertEquals(5, actualOutput.errors().size());
+        Assertions.assertEquals("record 5: 'name' should not be empty", actualOutput.errors().get(4).message());
+        Assertions.assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void givenAFailingWrite_whenCallsImportAll_shouldKeepThePreviousBatchesAndThrowInternalError() {
+        //given
+        final var records = List.of("a", "b", "c", "d", "e");
+        final var batches = new ArrayList<List<String>>();
+
+        final var expectedErrorMessage = "An error on importing records 3 to 4 was observed after 2 were imported";
+
+        final var importer = new BatchImporter<String, String>(2, 10, batch -> uppercase(), batch -> {
+            if (batches.size() == 1) {
+                throw new IllegalStateException("Database is unavailable");
+            }
+            batches.add(batch);
+        });
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class,
+                () -> importer.importAll(readerOf(records)));
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(List.of(List.of("A", "B")), batches);
+    }
+
+    private static BiFunction<String, Notification, String> uppercase() {
+        return (aRecord, notification) -> {
+            if (aRecord.isEmpty()) {
+                notification.append(new Error("'name' should not be empty"));
+                return null;
+            }
+            return aRecord.toUpperCase();
+        };
+    }
+
+    private static Iterator<String> readerOf(final List<String> records) {
+        final var it = records.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public String next() {
+                final var aRecord = it.next();
+                if (UNREADABLE.equals(aRecord)) {
+                    throw DomainException.with(new Error("Malformed JSON"));
+                }
+                return aRecord;
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.yansb.admin.api.application.video;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+public class ForkedTasksTest {
+
+    @Test
+    public void givenASinglePendingTask_whenCallsForkAndAwait_shouldRunItOnTheCallingThread() throws Exception {
+        //given
+        final var caller = Thread.currentThread();
+        final var aTask = new FutureTask<>(Thread::currentThread);
+
+        //when
+        final var actualFailure = ForkedTasks.forkAndAwait(it -> Assertions.fail("should not fork"), List.of(aTask));
+
+        //then
+        Assertions.assertTrue(actualFailure.isEmpty());
+        Assertions.assertSame(caller, aTask.get());
+    }
+
+    @Test
+    public void givenARejectingExecutor_whenCallsForkAndAwait_shouldRunTheTasksOnTheCallingThread() throws Exception {
+        //given
+        final var caller = Thread.currentThread();
+        final var aTask = new FutureTask<>(Thread::currentThread);
+        final var anotherTask = new FutureTask<>(Thread::currentThread);
+
+        //when
+        final var actualFailure = ForkedTasks.forkAndAwait(it -> {
+            throw new RejectedExecutionException();
+        }, List.of(aTask, anotherTask));
+
+        //then
+        Assertions.assertTrue(actualFailure.isEmpty());
+        Assertions.assertSame(caller, aTask.get());
+        Assertions.assertSame(caller, anotherTask.get());
+    }
+
+    @Test
+    public void givenFailingTasks_whenCallsForkAndAwait_shouldReturnTheFirstFailureInOrder() {
+        //given
+        final var expectedError = new IllegalStateException("first");
+        final var aTask = new FutureTask<Object>(() -> {
+            throw expectedError;
+        });
+        final var anotherTask = new FutureTask<Object>(() -> {
+            throw new IllegalStateException("second");
+        });
+
+        //when
+        final var actualFailure = ForkedTasks.forkAndAwait(Runnable::run, List.of(aTask, anotherTask));
+
+        //then
+        Assertions.assertSame(expectedError, actualFailure.orElseThrow());
+    }
+}
@@ -0,0 +1,119 @@
+package com.yansb.admin.api.application.video;
+
+import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+public class VideoMediaStoreTest {
+
+    private MediaResourceGateway mediaResourceGateway;
+    private ExecutorService executor;
+    private VideoMediaStore target;
+
+    @BeforeEach
+    void setUp() {
+        this.mediaResourceGateway = Mockito.mock(MediaResourceGateway.class);
+        this.executor = Executors.newFixedThreadPool(5);
+        this.target = new VideoMediaStore(mediaResourceGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenAllResources_whenCallsStoreAll_shouldStoreThemConcurrently() {
+        //given
+        final var aVideo = Fixture.Videos.lordOfTheRings();
+        final var started = new CountDownLatch(5);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            started.countDown();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            return Fixture.Videos.audioVideo(t.getArgument(1, VideoResource.class).type());
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            started.countDown();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            return Fixture.Videos.image(t.getArgument(1, VideoResource.class).type());
+        });
+
+        //when
+        final var actualVideo = this.target.storeAll(aVideo, Map.of(
+                VideoMediaType.VIDEO, Fixture.Videos.resource(VideoMediaType.VIDEO),
+                VideoMediaType.TRAILER, Fixture.Videos.resource(VideoMediaType.TRAILER),
+                VideoMediaType.BANNER, Fixture.Videos.resource(VideoMediaType.BANNER),
+                VideoMediaType.THUMBNAIL, Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                VideoMediaType.THUMBNAIL_HALF, Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        ));
+
+        //then
+        Assertions.assertTrue(actualVideo.getVideo().isPresent());
+        Assertions.assertTrue(actualVideo.getTrailer().isPresent());
+        Assertions.assertTrue(actualVideo.getBanner().isPresent());
+        Assertions.assertTrue(actualVideo.getThumbnail().isPresent());
+        Assertions.assertTrue(actualVideo.getThumbnailHalf().isPresent());
+    }
+
+    @Test
+    public void givenAFailingUpload_whenCallsStoreAll_shouldCancelInFlightUploadsAndRethrow() {
+        //given
+        final var aVideo = Fixture.Videos.lordOfTheRings();
+        final var expectedMessage = "Storage is unavailable";
+        final var interrupted = new AtomicBoolean(false);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        });
+        when(mediaResourceGateway.storeImage(any(), argThat(it -> it.type() == VideoMediaType.BANNER)))
+                .thenThrow(new IllegalStateException(expectedMessage));
+
+        //when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () ->
+                this.target.storeAll(aVideo, Map.of(
+                        VideoMediaType.VIDEO, Fixture.Videos.resource(VideoMediaType.VIDEO),
+                        VideoMediaType.BANNER, Fixture.Videos.resource(VideoMediaType.BANNER)
+                )));
+
+        //then
+        Assertions.assertEquals(expectedMessage, actualException.getMessage());
+        Assertions.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public void givenNoResources_whenCallsStoreAll_shouldClearMedias() {
+        //given
+        final var aVideo = Fixture.Videos.lordOfTheRings();
+
+        //when
+        final var actualVideo = this.target.storeAll(aVideo, Map.of());
+
+        //then
+        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+        Assertions.assertTrue(actualVideo.getBanner().isEmpty());
+        Mockito.verifyNoInteractions(mediaResourceGateway);
+    }
+}
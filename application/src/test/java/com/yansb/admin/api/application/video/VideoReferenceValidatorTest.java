@@ -0,0 +1,128 @@
+package com.yansb.admin.api.application.video;
+
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.castMember.CastMemberID;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.validation.Error;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+public class VideoReferenceValidatorTest {
+
+    private CategoryGateway categoryGateway;
+    private GenreGateway genreGateway;
+    private CastMemberGateway castMemberGateway;
+    private ExecutorService executor;
+    private VideoReferenceValidator target;
+
+    @BeforeEach
+    void setUp() {
+        this.categoryGateway = Mockito.mock(CategoryGateway.class);
+        this.genreGateway = Mockito.mock(GenreGateway.class);
+        this.castMemberGateway = Mockito.mock(CastMemberGateway.class);
+        this.executor = Executors.newFixedThreadPool(3);
+        this.target = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenMissingReferences_whenCallsValidate_shouldLookThemUpConcurrentlyAndKeepTheErrorsOrder() {
+        //given
+        final var aCategory = CategoryID.from("123");
+        final var aGenre = GenreID.from("456");
+        final var aMember = CastMemberID.from("789");
+        final var started = new CountDownLatch(3);
+
+        final var expectedErrors = List.of(
+                new Error("Some categories could not be found 123"),
+                new Error("Some genres could not be found 456"),
+                new Error("Some members could not be found 789")
+        );
+
+        when(categoryGateway.existsByIds(any())).thenAnswer(t -> {
+            started.countDown();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+        when(genreGateway.existsByIds(any())).thenAnswer(t -> {
+            started.countDown();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+        when(castMemberGateway.existsByIds(any())).thenAnswer(t -> {
+            started.countDown();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+
+        //when
+        final var actualNotification = this.target.validate(Set.of(aCategory), Set.of(aGenre), Set.of(aMember));
+
+        //then
+        Assertions.assertEquals(expectedErrors, actualNotification.getErrors());
+    }
+
+    @Test
+    public void givenAFailingLookup_whenCallsValidate_shouldCancelTheOtherLookupsAndRethrow() {
+        //given
+        final var expectedMessage = "Database is unavailable";
+        final var interrupted = new AtomicBoolean(false);
+        final var genreStarted = new CountDownLatch(1);
+
+        when(categoryGateway.existsByIds(any())).thenAnswer(t -> {
+            Assertions.assertTrue(genreStarted.await(5, TimeUnit.SECONDS));
+            throw new IllegalStateException(expectedMessage);
+        });
+        when(genreGateway.existsByIds(any())).thenAnswer(t -> {
+            genreStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return List.of();
+        });
+
+        //when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () ->
+                this.target.validate(Set.of(CategoryID.from("123")), Set.of(GenreID.from("456")), Set.of()));
+
+        //then
+        Assertions.assertEquals(expectedMessage, actualException.getMessage());
+        Assertions.assertTrue(interrupted.get());
+        Mockito.verifyNoInteractions(castMemberGateway);
+    }
+
+    @Test
+    public void givenNoReferences_whenCallsValidate_shouldNotCallAnyGateway() {
+        //when
+        final var actualNotification = this.target.validate(Set.of(), Set.of(), Set.of());
+
+        //then
+        Assertions.assertFalse(actualNotification.hasError());
+        Mockito.verifyNoInteractions(categoryGateway, genreGateway, castMemberGateway);
+    }
+}
@@ -0,0 +1,137 @@
+package com.yansb.admin.api.application.video.create;
+
+import com.yansb.admin.api.application.UseCaseTest;
+import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkCreateVideoUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateVideoUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private Executor validationExecutor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(t -> {
+            t.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(validationExecutor).execute(any());
+    }
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, validationExecutor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldLookUpReferencesOnceAndPersistOnlyValidVideos() {
+        //given
+        final var documentaries = Fixture.Categories.documentaries().getId();
+        final var action = Fixture.Genres.action().getId();
+        final var missingGenre = GenreID.from("missing");
+
+        final var aValidCommand = aCommand(Set.of(documentaries.getValue()), Set.of(action.getValue()));
+        final var anInvalidCommand = aCommand(Set.of(documentaries.getValue()), Set.of(missingGenre.getValue()));
+
+        final var expectedErrors = List.of(new Error("Some genres could not be found missing"));
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(documentaries));
+        when(genreGateway.existsByIds(any()))
+                .thenReturn(List.of(action));
+        when(videoGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        //when
+        final var actualOutputs = useCase.execute(List.of(aValidCommand, anInvalidCommand));
+
+        //then
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertNotNull(actualOutputs.get(0).id());
+        Assertions.assertTrue(actualOutputs.get(0).errors().isEmpty());
+        Assertions.assertNull(actualOutputs.get(1).id());
+        Assertions.assertEquals(expectedErrors, actualOutputs.get(1).errors());
+
+        verify(categoryGateway, times(1)).existsByIds(eq(Set.of(documentaries)));
+        verify(genreGateway, times(1)).existsByIds(eq(Set.of(action, missingGenre)));
+        verifyNoInteractions(castMemberGateway);
+
+        final var videosCaptor = ArgumentCaptor.forClass(List.class);
+        verify(videoGateway, times(1)).createAll(videosCaptor.capture());
+
+        final var actualVideos = (List<Video>) videosCaptor.getValue();
+        Assertions.assertEquals(1, actualVideos.size());
+        Assertions.assertEquals(actualOutputs.get(0).id(), actualVideos.get(0).getId().getValue());
+        Assertions.assertEquals(Set.of(documentaries), actualVideos.get(0).getCategories());
+    }
+
+    @Test
+    public void givenTooManyCommands_whenCallsBulkCreate_shouldThrowDomainException() {
+        //given
+        final var commands = Collections.nCopies(
+                DefaultBulkCreateVideoUseCase.MAX_ITEMS + 1,
+                aCommand(Set.of(), Set.of())
+        );
+
+        final var expectedErrorMessage = "A bulk create accepts at most 1000 videos";
+
+        //when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(commands));
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verifyNoInteractions(categoryGateway, genreGateway, castMemberGateway, videoGateway);
+    }
+
+    private static CreateVideoCommand aCommand(final Set<String> categories, final Set<String> genres) {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                categories,
+                genres,
+                Set.of()
+        );
+    }
+}
@@ -12,6 +12,7 @@ import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
 import com.yansb.admin.api.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -21,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,9 +49,20 @@ class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private Executor mediaExecutor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(t -> {
+            t.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mediaExecutor).execute(any());
+    }
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, mediaExecutor);
     }
 
     @Test
@@ -489,6 +502,75 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
     }
 
+    @Test
+    public void givenANullDuration_whenCallsCreateVideo_shouldReturnDomainException() {
+        // given
+        final var expectedErrorMessage = "'duration' should not be null";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                null,
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenNullFlagsAndReferences_whenCallsCreateVideo_shouldCreateAnUnpublishedVideo() {
+        // given
+        final var expectedTitle = Fixture.title();
+
+        final var aCommand = CreateVideoCommand.with(
+                expectedTitle,
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.Videos.duration(),
+                null,
+                null,
+                Fixture.Videos.rating().getName(),
+                null,
+                null,
+                null
+        );
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualResult.id());
+
+        verify(videoGateway).create(argThat(actualVideo ->
+                Objects.equals(expectedTitle, actualVideo.getTitle())
+                        && !actualVideo.getOpened()
+                        && !actualVideo.getPublished()
+                        && actualVideo.getCategories().isEmpty()
+                        && actualVideo.getGenres().isEmpty()
+                        && actualVideo.getCastMembers().isEmpty()
+        ));
+        verify(categoryGateway, times(0)).existsByIds(any());
+    }
+
     @Test
     public void givenAnEmptyTitle_whenCallsCreateVideo_shouldReturnDomainException() {
         // given
@@ -2,7 +2,6 @@ package com.yansb.admin.api.application.video.delete;
 
 import com.yansb.admin.api.application.UseCaseTest;
 import com.yansb.admin.api.domain.exceptions.InternalErrorException;
-import com.yansb.admin.api.domain.video.MediaResourceGateway;
 import com.yansb.admin.api.domain.video.VideoGateway;
 import com.yansb.admin.api.domain.video.VideoID;
 import org.junit.jupiter.api.Assertions;
@@ -25,12 +24,9 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
-    @Mock
-    private MediaResourceGateway mediaResourceGateway;
-
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, mediaResourceGateway);
+        return List.of(videoGateway);
     }
 
     @Test
@@ -39,12 +35,10 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
         final var expectedId = VideoID.unique();
 
         Mockito.doNothing().when(videoGateway).deleteById(any());
-        doNothing().when(mediaResourceGateway).clearResources(any());
         // when
         Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId.getValue()));
         // then
         verify(videoGateway).deleteById(eq(expectedId));
-        verify(mediaResourceGateway).clearResources(eq(expectedId));
     }
 
     @Test
@@ -13,7 +13,7 @@ import org.mockito.Mock;
 import java.util.List;
 import java.util.Optional;
 
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class GetMediaUseCaseTest extends UseCaseTest {
 
@@ -29,7 +29,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() {
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() throws Exception {
         //given
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.Videos.mediaType();
@@ -43,7 +43,8 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         final var actualResult = this.useCase.execute(aCmd);
         //then
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
-        Assertions.assertEquals(expectedResource.content(), actualResult.content());
+        Assertions.assertEquals(expectedResource.size(), actualResult.size());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content().open().readAllBytes());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
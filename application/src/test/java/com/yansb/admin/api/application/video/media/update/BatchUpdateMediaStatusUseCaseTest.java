@@ -0,0 +1,106 @@
+package com.yansb.admin.api.application.video.media.update;
+
+import com.yansb.admin.api.application.UseCaseTest;
+import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.exceptions.NotFoundException;
+import com.yansb.admin.api.domain.video.MediaStatus;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoID;
+import com.yansb.admin.api.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchUpdateMediaStatusUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBatchUpdateMediaStatusUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenCommandsForTheSameVideo_whenCallsExecute_shouldUpdateEachMediaWithoutLoadingTheVideo() {
+        //given
+        final var expectedVideoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailerMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var expectedId = VideoID.unique();
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
+
+        final var someCommands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedVideoMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedVideoMedia.id(), "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedTrailerMedia.id(), "encoded", "trailer.mp4")
+        );
+
+        //when
+        this.useCase.execute(someCommands);
+
+        //then
+        verify(videoGateway, times(3)).updateMediaStatus(eq(expectedId), any(), any(), any());
+        verify(videoGateway).updateMediaStatus(eq(expectedId), eq(expectedVideoMedia.id()), eq(MediaStatus.COMPLETED), eq("encoded/video.mp4"));
+        verify(videoGateway).updateMediaStatus(eq(expectedId), eq(expectedTrailerMedia.id()), eq(MediaStatus.COMPLETED), eq("encoded/trailer.mp4"));
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAMissingVideo_whenCallsExecute_shouldUpdateTheOthersAndThrow() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var anExistingId = VideoID.unique();
+        final var missingId = VideoID.unique();
+
+        when(videoGateway.updateMediaStatus(eq(missingId), any(), any(), any()))
+                .thenReturn(false);
+        when(videoGateway.updateMediaStatus(eq(anExistingId), any(), any(), any()))
+                .thenReturn(true);
+        when(videoGateway.existsById(eq(missingId)))
+                .thenReturn(false);
+
+        final var someCommands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, missingId.getValue(), "resource", "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, anExistingId.getValue(), expectedMedia.id(), "encoded", "video.mp4")
+        );
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(someCommands));
+
+        //then
+        verify(videoGateway, times(1)).updateMediaStatus(eq(anExistingId), eq(expectedMedia.id()), eq(MediaStatus.COMPLETED), eq("encoded/video.mp4"));
+    }
+
+    @Test
+    public void givenUnknownResource_whenCallsExecute_shouldNotFail() {
+        //given
+        final var aVideo = Fixture.Videos.lordOfTheRings()
+                .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO));
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
+        when(videoGateway.existsById(any()))
+                .thenReturn(true);
+
+        //when
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(), "unknown", "encoded", "video.mp4")
+        )));
+
+        //then
+        verify(videoGateway, never()).update(any());
+    }
+}
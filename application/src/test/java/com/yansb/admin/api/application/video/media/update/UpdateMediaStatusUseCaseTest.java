@@ -2,21 +2,20 @@ package com.yansb.admin.api.application.video.media.update;
 
 import com.yansb.admin.api.application.UseCaseTest;
 import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.exceptions.NotFoundException;
 import com.yansb.admin.api.domain.video.MediaStatus;
-import com.yansb.admin.api.domain.video.Video;
 import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoID;
 import com.yansb.admin.api.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
-import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class UpdateMediaStatusUseCaseTest extends UseCaseTest {
@@ -46,11 +45,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -64,29 +60,19 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         //then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1))
-                .findById(eq(expectedId));
-        verify(videoGateway, times(1))
-                .update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(
-                expectedFolder.concat("/").concat(expectedFileName),
-                actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFileName))
+        );
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenACommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    public void givenACommandForVideo_whenIsValidForProcessing_shouldUpdateStatusOnly() {
         //given
         final var expectedStatus = MediaStatus.PROCESSING;
         final String expectedFolder = null;
@@ -99,11 +85,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -117,23 +100,13 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         //then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1))
-                .findById(eq(expectedId));
-        verify(videoGateway, times(1))
-                .update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                isNull()
+        );
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
@@ -150,11 +123,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -168,33 +138,20 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         //then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1))
-                .findById(eq(expectedId));
-        verify(videoGateway, times(1))
-                .update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(
-                expectedFolder.concat("/").concat(expectedFileName),
-                actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFileName))
+        );
     }
 
     @Test
-    public void givenACommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    public void givenACommandForTrailer_whenIsInvalid_shouldDoNothing() {
         //given
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFileName = null;
+        final var expectedStatus = MediaStatus.COMPLETED;
+        final var expectedFolder = "encoded_media";
+        final var expectedFileName = "filename.mp4";
         final var expectedType = VideoMediaType.TRAILER;
         final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
 
@@ -203,75 +160,69 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
 
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.existsById(any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
                 expectedId.getValue(),
-                expectedMedia.id(),
+                "invalid_id",
                 expectedFolder,
                 expectedFileName
         );
 
         //when
-        this.useCase.execute(aCmd);
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(aCmd));
 
         //then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1))
-                .findById(eq(expectedId));
-        verify(videoGateway, times(1))
-                .update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(0))
+                .update(any());
     }
 
     @Test
-    public void givenACommandForTrailer_whenIsInvalid_shouldDoNothing() {
+    public void givenACommandForAMissingVideo_whenCallsExecute_shouldThrowNotFound() {
         //given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFileName = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedId = VideoID.unique();
 
-        final var aVideo = Fixture.Videos.lordOfTheRings()
-                .updateTrailerMedia(expectedMedia);
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
 
-        final var expectedId = aVideo.getId();
-
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
+        when(videoGateway.existsById(any()))
+                .thenReturn(false);
 
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
+                MediaStatus.COMPLETED,
                 expectedId.getValue(),
-                "invalid_id",
-                expectedFolder,
-                expectedFileName
+                "resource",
+                "encoded_media",
+                "filename.mp4"
         );
 
         //when
-        this.useCase.execute(aCmd);
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(aCmd));
 
         //then
-        verify(videoGateway, times(0))
-                .update(any());
+        Assertions.assertEquals("Video with ID %s was not found".formatted(expectedId.getValue()), actualException.getMessage());
     }
 
+    @Test
+    public void givenAPendingCommand_whenCallsExecute_shouldDoNothing() {
+        //given
+        final var aCmd = UpdateMediaStatusCommand.with(
+                MediaStatus.PENDING,
+                VideoID.unique().getValue(),
+                "resource",
+                null,
+                null
+        );
 
-}
\ No newline at end of file
+        //when
+        this.useCase.execute(aCmd);
+
+        //then
+        verifyNoInteractions(videoGateway);
+    }
+}
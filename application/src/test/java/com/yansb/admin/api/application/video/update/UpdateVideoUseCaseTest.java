@@ -11,12 +11,14 @@ import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
 import com.yansb.admin.api.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,9 +42,20 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private Executor mediaExecutor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(t -> {
+            t.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mediaExecutor).execute(any());
+    }
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, mediaExecutor);
     }
 
     @Test
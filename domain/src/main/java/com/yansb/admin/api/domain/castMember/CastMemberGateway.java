@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface CastMemberGateway {
   CastMember create(CastMember aCastMember);
 
+  List<CastMember> createAll(List<CastMember> castMembers);
+
   void deleteByID(CastMemberID anID);
 
   Optional<CastMember> findByID(CastMemberID anID);
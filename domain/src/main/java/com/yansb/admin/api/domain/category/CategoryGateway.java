@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface CategoryGateway {
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID anID);
 
     Optional<Category> findById(CategoryID anID);
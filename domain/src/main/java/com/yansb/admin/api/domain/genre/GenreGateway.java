@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface GenreGateway {
   Genre create(Genre aGenre);
 
+  List<Genre> createAll(List<Genre> genres);
+
   void deleteByID(GenreID anID);
 
   Optional<Genre> findByID(GenreID anID);
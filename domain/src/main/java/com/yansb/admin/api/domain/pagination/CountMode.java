@@ -0,0 +1,16 @@
+package com.yansb.admin.api.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CountMode {
+  EXACT,
+  ESTIMATED,
+  NONE;
+
+  public static Optional<CountMode> of(final String value) {
+    return Arrays.stream(values())
+        .filter(it -> it.name().equalsIgnoreCase(value))
+        .findFirst();
+  }
+}
@@ -7,14 +7,35 @@ public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    String nextCursor,
+    boolean hasNext
 ) {
+
+  public static final long UNKNOWN_TOTAL = -1;
+
+  public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+    this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+  }
+
+  public static <T> Pagination<T> cursor(final int perPage, final List<T> items, final String nextCursor) {
+    return new Pagination<>(0, perPage, UNKNOWN_TOTAL, items, nextCursor, nextCursor != null);
+  }
+
+  public static <T> Pagination<T> slice(final int currentPage, final int perPage, final List<T> items, final boolean hasNext) {
+    return new Pagination<>(currentPage, perPage, UNKNOWN_TOTAL, items, null, hasNext);
+  }
+
+  public Pagination<T> withTotal(final long total) {
+    return new Pagination<>(currentPage(), perPage(), total, items(), nextCursor(), hasNext());
+  }
+
   public <R> Pagination<R> map(final Function<T, R> mapper){
     final List<R> aNewList = this.items
         .stream()
         .map(mapper)
         .toList();
 
-    return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+    return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), hasNext());
   }
 }
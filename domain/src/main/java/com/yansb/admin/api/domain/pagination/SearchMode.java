@@ -0,0 +1,15 @@
+package com.yansb.admin.api.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SearchMode {
+  LIKE,
+  FULL_TEXT;
+
+  public static Optional<SearchMode> of(final String value) {
+    return Arrays.stream(values())
+        .filter(it -> it.name().equalsIgnoreCase(value))
+        .findFirst();
+  }
+}
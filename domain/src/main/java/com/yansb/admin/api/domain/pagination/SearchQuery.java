@@ -5,6 +5,59 @@ public record SearchQuery(
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    CountMode countMode,
+    SearchMode searchMode
 ) {
+
+  public SearchQuery {
+    if (countMode == null) {
+      countMode = cursor != null ? CountMode.NONE : CountMode.EXACT;
+    }
+    if (searchMode == null) {
+      searchMode = SearchMode.LIKE;
+    }
+  }
+
+  public SearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction
+  ) {
+    this(page, perPage, terms, sort, direction, null, null, null);
+  }
+
+  public SearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final String cursor
+  ) {
+    this(page, perPage, terms, sort, direction, cursor, null, null);
+  }
+
+  public SearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final String cursor,
+      final CountMode countMode
+  ) {
+    this(page, perPage, terms, sort, direction, cursor, countMode, null);
+  }
+
+  public boolean isCursorMode() {
+    return cursor != null;
+  }
+
+  public boolean isFullTextSearch() {
+    return searchMode == SearchMode.FULL_TEXT && terms != null && !terms.isBlank();
+  }
 }
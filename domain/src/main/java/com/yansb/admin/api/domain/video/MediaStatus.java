@@ -1,5 +1,14 @@
 package com.yansb.admin.api.domain.video;
 
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED, ERROR
+    PENDING, PROCESSING, COMPLETED, ERROR;
+
+    public boolean canFollow(final MediaStatus previous) {
+        return switch (this) {
+            case PENDING -> false;
+            case PROCESSING -> previous == PENDING || previous == PROCESSING;
+            case COMPLETED -> true;
+            case ERROR -> previous != COMPLETED;
+        };
+    }
 }
@@ -2,6 +2,11 @@ package com.yansb.admin.api.domain.video;
 
 import com.yansb.admin.api.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -9,17 +14,26 @@ public class Resource extends ValueObject {
     private final String checksum;
 
     private final byte[] content;
+    private final ContentStream contentStream;
+    private final RangedContentStream rangedStream;
+    private final long size;
     private final String contentType;
     private final String name;
 
     private Resource(
             final String checksum,
             final byte[] content,
+            final ContentStream contentStream,
+            final RangedContentStream rangedStream,
+            final long size,
             final String contentType,
             final String name
     ) {
-        this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+        this.checksum = checksum;
+        this.content = content;
+        this.contentStream = contentStream;
+        this.rangedStream = rangedStream;
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
@@ -30,7 +44,40 @@ public class Resource extends ValueObject {
             final String contentType,
             final String name
     ) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, null, null, content.length, contentType, name);
+    }
+
+    public static Resource with(
+            final ContentStream contentStream,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        return with(null, contentStream, size, contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final ContentStream contentStream,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        return with(checksum, contentStream, null, size, contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final ContentStream contentStream,
+            final RangedContentStream rangedStream,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(contentStream);
+        return new Resource(checksum, null, contentStream, rangedStream, size, contentType, name);
     }
 
     public String checksum() {
@@ -38,7 +85,46 @@ public class Resource extends ValueObject {
     }
 
     public byte[] content() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        if (content != null) {
+            return new ByteArrayInputStream(content);
+        }
+        return contentStream.open();
+    }
+
+    /**
+     * Opens {@code length} bytes starting at {@code offset}. Storages that can seek provide a
+     * {@link RangedContentStream}; otherwise the leading bytes are skipped from a full stream.
+     */
+    public InputStream openStream(final long offset, final long length) throws IOException {
+        if (content != null) {
+            final var from = (int) Math.min(offset, content.length);
+            return new ByteArrayInputStream(content, from, (int) Math.min(length, content.length - from));
+        }
+        if (rangedStream != null) {
+            return rangedStream.open(offset, length);
+        }
+        final var in = contentStream.open();
+        in.skipNBytes(offset);
+        return new LimitedInputStream(in, length);
+    }
+
+    public boolean isStreamed() {
+        return contentStream != null;
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
@@ -54,13 +140,56 @@ public class Resource extends ValueObject {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Resource resource = (Resource) o;
-        return Objects.equals(checksum, resource.checksum) && Arrays.equals(content, resource.content) && Objects.equals(contentType, resource.contentType) && Objects.equals(name, resource.name);
+        return size == resource.size && Objects.equals(checksum, resource.checksum) && Arrays.equals(content, resource.content) && Objects.equals(contentStream, resource.contentStream) && Objects.equals(rangedStream, resource.rangedStream) && Objects.equals(contentType, resource.contentType) && Objects.equals(name, resource.name);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(checksum, contentType, name);
+        int result = Objects.hash(checksum, contentStream, rangedStream, size, contentType, name);
         result = 31 * result + Arrays.hashCode(content);
         return result;
     }
+
+    @FunctionalInterface
+    public interface ContentStream {
+        InputStream open() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface RangedContentStream {
+        InputStream open(long offset, long length) throws IOException;
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private LimitedInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final var read = super.read();
+            if (read != -1) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final var read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
 }
@@ -2,16 +2,23 @@ package com.yansb.admin.api.domain.video;
 
 import com.yansb.admin.api.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
   Video create(Video aVideo);
 
+  List<Video> createAll(List<Video> videos);
+
   Video update(Video aVideo);
 
+  boolean updateMediaStatus(VideoID aVideoId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
   void deleteById(VideoID aVideoId);
 
   Optional<Video> findById(VideoID aVideoId);
 
+  boolean existsById(VideoID aVideoId);
+
   Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 }
@@ -3,6 +3,8 @@ package com.yansb.admin.api.domain.video;
 import com.yansb.admin.api.domain.castMember.CastMemberID;
 import com.yansb.admin.api.domain.category.CategoryID;
 import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.SearchMode;
 
 import java.util.Set;
 
@@ -14,6 +16,68 @@ public record VideoSearchQuery(
         String direction,
         Set<CategoryID> categories,
         Set<GenreID> genres,
-        Set<CastMemberID> castMembers
+        Set<CastMemberID> castMembers,
+        String cursor,
+        CountMode countMode,
+        SearchMode searchMode
 ) {
+
+    public VideoSearchQuery {
+        if (countMode == null) {
+            countMode = cursor != null ? CountMode.NONE : CountMode.EXACT;
+        }
+        if (searchMode == null) {
+            searchMode = SearchMode.LIKE;
+        }
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, null, null, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, cursor, null, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers,
+            final String cursor,
+            final CountMode countMode
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, cursor, countMode, null);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean isFullTextSearch() {
+        return searchMode == SearchMode.FULL_TEXT && terms != null && !terms.isBlank();
+    }
 }
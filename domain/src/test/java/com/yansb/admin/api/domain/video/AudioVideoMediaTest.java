@@ -51,4 +51,14 @@ class AudioVideoMediaTest extends UnitTest {
         Assertions.assertThrows(NullPointerException.class, () -> AudioVideoMedia.with(IdUtils.uuid(), "checksum", "name", "Rawlocation", "EncodedLocation", null));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenAStatus_whenCallsCanFollow_shouldOnlyAllowForwardTransitions() {
+        Assertions.assertTrue(MediaStatus.PROCESSING.canFollow(MediaStatus.PENDING));
+        Assertions.assertTrue(MediaStatus.PROCESSING.canFollow(MediaStatus.PROCESSING));
+        Assertions.assertFalse(MediaStatus.PROCESSING.canFollow(MediaStatus.COMPLETED));
+        Assertions.assertTrue(MediaStatus.COMPLETED.canFollow(MediaStatus.PROCESSING));
+        Assertions.assertTrue(MediaStatus.COMPLETED.canFollow(MediaStatus.COMPLETED));
+        Assertions.assertFalse(MediaStatus.ERROR.canFollow(MediaStatus.COMPLETED));
+        Assertions.assertFalse(MediaStatus.PENDING.canFollow(MediaStatus.PENDING));
+    }
+}
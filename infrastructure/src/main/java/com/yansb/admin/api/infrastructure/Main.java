@@ -1,13 +1,16 @@
 package com.yansb.admin.api.infrastructure;
 
 import com.yansb.admin.api.infrastructure.configuration.WebServerConfig;
+import com.yansb.admin.api.infrastructure.persistence.KeysetRepositoryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = KeysetRepositoryImpl.class)
 public class Main {
     private static final Logger LOG = LoggerFactory.getLogger(Main.class);
 
@@ -0,0 +1,131 @@
+package com.yansb.admin.api.infrastructure.amqp;
+
+import com.rabbitmq.client.AMQP;
+import com.yansb.admin.api.infrastructure.configuration.annotations.VideoEncodedQueue;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DeadLetterRouter {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String ERROR_HEADER = "x-last-error";
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterRouter.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final QueueProperties queueProps;
+    private final ListenerProperties listenerProps;
+    private final PublisherProperties publisherProps;
+    private final RabbitOperations ops;
+
+    public DeadLetterRouter(
+            @VideoEncodedQueue final QueueProperties queueProps,
+            @VideoEncodedQueue final ListenerProperties listenerProps,
+            final PublisherProperties publisherProps,
+            final RabbitOperations ops
+    ) {
+        this.queueProps = Objects.requireNonNull(queueProps);
+        this.listenerProps = Objects.requireNonNull(listenerProps);
+        this.publisherProps = Objects.requireNonNull(publisherProps);
+        this.ops = Objects.requireNonNull(ops);
+    }
+
+    /**
+     * Republishes the message to its next retry tier, or dead-letters it once the tiers are exhausted.
+     * Returns whether the broker confirmed the republish; the original delivery must only be acked then.
+     */
+    public boolean retry(final Message aMessage, final Throwable reason) {
+        final var attempts = retryCount(aMessage);
+        if (attempts >= this.listenerProps.getRetryDelays().size()) {
+            return deadLetter(aMessage, String.valueOf(reason));
+        }
+
+        log.warn("[message:video.listener.retry] [tier:{}] [reason:{}]", attempts, reason.getMessage());
+        final var retried = MessageBuilder.fromClonedMessage(aMessage)
+                .setHeader(RETRY_COUNT_HEADER, attempts + 1)
+                .setHeader(ERROR_HEADER, truncate(String.valueOf(reason)))
+                .build();
+        return sendConfirmed(this.queueProps.retryExchange(), this.queueProps.retryRoutingKey(attempts), retried);
+    }
+
+    /**
+     * Returns whether the broker confirmed the dead-lettered copy; the original delivery must only be acked then.
+     */
+    public boolean deadLetter(final Message aMessage, final String reason) {
+        log.error("[message:video.listener.dead-letter] [attempts:{}] [reason:{}]", retryCount(aMessage), reason);
+        final var deadLettered = MessageBuilder.fromClonedMessage(aMessage)
+                .setHeader(ERROR_HEADER, truncate(reason))
+                .build();
+        return sendConfirmed(this.queueProps.deadLetterExchange(), this.queueProps.getRoutingKey(), deadLettered);
+    }
+
+    public int replay(final int limit) {
+        final var replayed = this.ops.execute(channel -> {
+            var count = 0;
+            while (count < limit) {
+                final var response = channel.basicGet(this.queueProps.deadLetterQueue(), false);
+                if (response == null) {
+                    break;
+                }
+
+                final var headers = response.getProps().getHeaders() == null
+                        ? new HashMap<String, Object>()
+                        : new HashMap<>(response.getProps().getHeaders());
+                headers.remove(RETRY_COUNT_HEADER);
+                headers.remove(ERROR_HEADER);
+
+                final AMQP.BasicProperties props = response.getProps().builder().headers(headers).build();
+                channel.basicPublish(this.queueProps.getExchange(), this.queueProps.getRoutingKey(), props, response.getBody());
+                channel.waitForConfirmsOrDie(this.publisherProps.getConfirmTimeout().toMillis());
+                channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                count++;
+            }
+            return count;
+        });
+
+        log.info("[message:video.listener.replay] [replayed:{}]", replayed);
+        return replayed == null ? 0 : replayed;
+    }
+
+    private boolean sendConfirmed(final String exchange, final String routingKey, final Message aMessage) {
+        final var correlation = new CorrelationData();
+        try {
+            this.ops.send(exchange, routingKey, aMessage, correlation);
+            final var confirm = correlation.getFuture()
+                    .get(this.publisherProps.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (confirm.isAck()) {
+                return true;
+            }
+            log.warn("[message:video.listener.republish] [exchange:{}] [status:nacked] [reason:{}]", exchange, confirm.getReason());
+        } catch (final AmqpException | ExecutionException | TimeoutException e) {
+            log.warn("[message:video.listener.republish] [exchange:{}] [status:unconfirmed]", exchange, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static int retryCount(final Message aMessage) {
+        final var count = aMessage.getMessageProperties().getHeader(RETRY_COUNT_HEADER);
+        return count instanceof Number n ? n.intValue() : 0;
+    }
+
+    private static String truncate(final String reason) {
+        return reason == null || reason.length() <= MAX_ERROR_LENGTH ? reason : reason.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,18 +1,30 @@
 package com.yansb.admin.api.infrastructure.amqp;
 
+import com.rabbitmq.client.Channel;
+import com.yansb.admin.api.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.yansb.admin.api.application.video.media.update.UpdateMediaStatusCommand;
-import com.yansb.admin.api.application.video.media.update.UpdateMediaStatusUseCase;
 import com.yansb.admin.api.domain.video.MediaStatus;
 import com.yansb.admin.api.infrastructure.configuration.json.Json;
 import com.yansb.admin.api.infrastructure.video.models.VideoEncoderCompleted;
 import com.yansb.admin.api.infrastructure.video.models.VideoEncoderError;
 import com.yansb.admin.api.infrastructure.video.models.VideoEncoderResult;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptID;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Component
@@ -20,31 +32,153 @@ public class VideoEncoderListener {
 
     public static final String LISTENER_ID = "videoEncodedListener";
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
-    private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
+    private final MediaStatusReceiptRepository receiptRepository;
+    private final DeadLetterRouter deadLetterRouter;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
-        this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+    public VideoEncoderListener(
+            final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase,
+            final MediaStatusReceiptRepository receiptRepository,
+            final DeadLetterRouter deadLetterRouter
+    ) {
+        this.batchUpdateMediaStatusUseCase = Objects.requireNonNull(batchUpdateMediaStatusUseCase);
+        this.receiptRepository = Objects.requireNonNull(receiptRepository);
+        this.deadLetterRouter = Objects.requireNonNull(deadLetterRouter);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final var aResult = Json.readValue(message, VideoEncoderResult.class);
+    /**
+     * Deliveries are acked one by one: once applied or found duplicated, and for retried or dead-lettered
+     * ones only after the broker confirmed the republished copy. An unconfirmed dead-letter goes through the
+     * delayed retry tiers instead, and an unconfirmed retry is rejected so the queue parks it on its
+     * dead-letter queue; neither is requeued straight away nor lost.
+     */
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessages(final List<Message> messages, final Channel channel) {
+        final var pending = new LinkedHashMap<MediaStatusReceiptID, PendingUpdate>();
 
-        if (aResult instanceof VideoEncoderCompleted dto) {
-            log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final var aCmd = new UpdateMediaStatusCommand(
-                    MediaStatus.COMPLETED,
-                    dto.id(),
-                    dto.video().resourceId(),
-                    dto.video().encodedVideoFolder(),
-                    dto.video().filePath()
-            );
-            this.updateMediaStatusUseCase.execute(aCmd);
-        } else if (aResult instanceof VideoEncoderError dto) {
-            log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-        } else {
-            log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+        for (final var aMessage : messages) {
+            final var payload = new String(aMessage.getBody(), StandardCharsets.UTF_8);
+            final VideoEncoderResult aResult;
+            try {
+                aResult = Json.readValue(payload, VideoEncoderResult.class);
+            } catch (final RuntimeException e) {
+                deadLetter(channel, aMessage, "Unreadable payload: " + e.getMessage());
+                continue;
+            }
 
+            if (aResult instanceof VideoEncoderCompleted dto) {
+                log.info("[message:video.listener.income] [status:completed] [payload:{}]", payload);
+                final var aCmd = new UpdateMediaStatusCommand(
+                        MediaStatus.COMPLETED,
+                        dto.id(),
+                        dto.video().resourceId(),
+                        dto.video().encodedVideoFolder(),
+                        dto.video().filePath()
+                );
+                final var aKey = MediaStatusReceiptID.from(aCmd.resourceId(), aCmd.status().name());
+                if (pending.putIfAbsent(aKey, new PendingUpdate(aMessage, aCmd)) != null) {
+                    ack(channel, aMessage);
+                }
+            } else if (aResult instanceof VideoEncoderError dto) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", payload);
+                deadLetter(channel, aMessage, dto.error());
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", payload);
+                deadLetter(channel, aMessage, "Unknown encoder result");
+            }
         }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final var processed = new HashSet<MediaStatusReceiptID>();
+        try {
+            this.receiptRepository.findAllById(pending.keySet())
+                    .forEach(it -> processed.add(it.getId()));
+        } catch (final RuntimeException e) {
+            log.warn("[message:video.listener.income] [status:lookup-failed] [count:{}]", pending.size(), e);
+            pending.values().forEach(it -> retry(channel, it.message(), e));
+            return;
+        }
+
+        if (!processed.isEmpty()) {
+            log.info("[message:video.listener.income] [status:duplicated] [count:{}]", processed.size());
+            processed.forEach(aKey -> ack(channel, pending.remove(aKey).message()));
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (pending.size() == 1) {
+            pending.forEach((aKey, anUpdate) -> applyOne(channel, aKey, anUpdate));
+            return;
+        }
+
+        try {
+            apply(pending);
+            pending.values().forEach(it -> ack(channel, it.message()));
+        } catch (final RuntimeException e) {
+            log.warn("[message:video.listener.income] [status:batch-failed] [count:{}]", pending.size(), e);
+            pending.forEach((aKey, anUpdate) -> applyOne(channel, aKey, anUpdate));
+        }
+    }
+
+    private void applyOne(final Channel channel, final MediaStatusReceiptID aKey, final PendingUpdate anUpdate) {
+        try {
+            apply(Map.of(aKey, anUpdate));
+            ack(channel, anUpdate.message());
+        } catch (final RuntimeException e) {
+            retry(channel, anUpdate.message(), e);
+        }
+    }
+
+    private void apply(final Map<MediaStatusReceiptID, PendingUpdate> updates) {
+        this.batchUpdateMediaStatusUseCase.execute(updates.values().stream()
+                .map(PendingUpdate::command)
+                .toList());
+
+        this.receiptRepository.saveAll(updates.keySet().stream()
+                .map(MediaStatusReceiptJpaEntity::of)
+                .toList());
+    }
+
+    private void deadLetter(final Channel channel, final Message aMessage, final String reason) {
+        if (this.deadLetterRouter.deadLetter(aMessage, reason)) {
+            ack(channel, aMessage);
+            return;
+        }
+
+        retry(channel, aMessage, new AmqpException("Dead-letter was not confirmed: " + reason));
+    }
+
+    private void retry(final Channel channel, final Message aMessage, final Throwable reason) {
+        if (this.deadLetterRouter.retry(aMessage, reason)) {
+            ack(channel, aMessage);
+            return;
+        }
+
+        log.warn("[message:video.listener.income] [status:rejected]");
+        try {
+            channel.basicNack(aMessage.getMessageProperties().getDeliveryTag(), false, false);
+        } catch (final IOException e) {
+            throw new AmqpIOException(e);
+        }
+    }
+
+    private void ack(final Channel channel, final Message aMessage) {
+        try {
+            channel.basicAck(aMessage.getMessageProperties().getDeliveryTag(), false);
+        } catch (final IOException e) {
+            throw new AmqpIOException(e);
+        }
+    }
+
+    private record PendingUpdate(Message message, UpdateMediaStatusCommand command) {
     }
 }
@@ -0,0 +1,8 @@
+package com.yansb.admin.api.infrastructure.amqp.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record DeadLetterReplayResponse(
+        @JsonProperty("replayed") int replayed
+) {
+}
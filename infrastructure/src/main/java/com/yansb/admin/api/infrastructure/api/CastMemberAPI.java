@@ -14,6 +14,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 @RequestMapping("cast_members")
 @Tag(name = "Cast Members")
 public interface CastMemberAPI {
@@ -30,6 +32,18 @@ public interface CastMemberAPI {
   })
   ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+  @PostMapping(
+      value = "import",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  @Operation(summary = "Import cast members from newline delimited JSON")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Valid cast members imported, invalid records reported"),
+      @ApiResponse(responseCode = "500", description = "An Internal Server Error occurred")
+  })
+  ResponseEntity<?> importAll(InputStream input);
+
   @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a cast member by id")
   @ApiResponses(value = {
@@ -50,7 +64,10 @@ public interface CastMemberAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir
+      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "count", required = false) final String count,
+      @RequestParam(name = "searchMode", required = false) final String searchMode
   );
 
   @PutMapping(
@@ -14,6 +14,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -32,6 +34,18 @@ public interface CategoryAPI {
   })
   ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+  @PostMapping(
+      value = "import",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  @Operation(summary = "Import categories from newline delimited JSON")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Valid categories imported, invalid records reported"),
+      @ApiResponse(responseCode = "500", description = "An Internal Server Error occurred")
+  })
+  ResponseEntity<?> importCategories(InputStream input);
+
   @GetMapping
   @Operation(summary = "List all categories paginated")
   @ApiResponses(value = {
@@ -44,7 +58,10 @@ public interface CategoryAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir
+      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "count", required = false) final String count,
+      @RequestParam(name = "searchMode", required = false) final String searchMode
 
   );
 
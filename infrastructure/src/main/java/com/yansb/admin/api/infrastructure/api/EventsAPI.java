@@ -0,0 +1,26 @@
+package com.yansb.admin.api.infrastructure.api;
+
+import com.yansb.admin.api.infrastructure.amqp.models.DeadLetterReplayResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@RequestMapping(value = "events")
+@Tag(name = "Events")
+public interface EventsAPI {
+
+    @PostMapping(value = "video-encoded/dead-letters/replay", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Re-drive dead-lettered video encoded results back to their queue")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dead letters replayed"),
+            @ApiResponse(responseCode = "500", description = "An Internal Server Error occurred")
+    })
+    DeadLetterReplayResponse replayVideoEncodedDeadLetters(
+            @RequestParam(name = "limit", required = false, defaultValue = "1000") int limit
+    );
+}
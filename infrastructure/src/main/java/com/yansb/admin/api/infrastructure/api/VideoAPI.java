@@ -1,6 +1,7 @@
 package com.yansb.admin.api.infrastructure.api;
 
 import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.infrastructure.video.models.BulkCreateVideoResponse;
 import com.yansb.admin.api.infrastructure.video.models.CreateVideoRequest;
 import com.yansb.admin.api.infrastructure.video.models.UpdateVideoRequest;
 import com.yansb.admin.api.infrastructure.video.models.VideoListResponse;
@@ -9,12 +10,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -37,7 +41,10 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String dir,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembersIds,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categoriesIds,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genresIds
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genresIds,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false) String count,
+            @RequestParam(name = "searchMode", required = false) String searchMode
     );
 
     @PostMapping(
@@ -84,6 +91,19 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
+    @PostMapping(
+            value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many videos without medias in a single batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per video results, in request order"),
+            @ApiResponse(responseCode = "422", description = "The batch is too large"),
+            @ApiResponse(responseCode = "500", description = "An Internal Server Error occurred")
+    })
+    List<BulkCreateVideoResponse> createBulk(@RequestBody List<CreateVideoRequest> payload);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
@@ -126,12 +146,16 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Media not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An Internal Server Error occurred")
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -3,6 +3,7 @@ package com.yansb.admin.api.infrastructure.api.controllers;
 import com.yansb.admin.api.application.castMember.create.CreateCastMemberCommand;
 import com.yansb.admin.api.application.castMember.create.CreateCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.delete.DeleteCastMemberUseCase;
+import com.yansb.admin.api.application.castMember.imports.ImportCastMembersUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.get.GetCastMemberByIdUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.list.ListCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.update.UpdateCastMemberCommand;
@@ -15,9 +16,12 @@ import com.yansb.admin.api.infrastructure.castMember.models.CastMemberResponse;
 import com.yansb.admin.api.infrastructure.castMember.models.CreateCastMemberRequest;
 import com.yansb.admin.api.infrastructure.castMember.models.UpdateCastMemberRequest;
 import com.yansb.admin.api.infrastructure.castMember.presenter.CastMemberPresenter;
+import com.yansb.admin.api.infrastructure.utils.NdjsonUtils;
+import com.yansb.admin.api.infrastructure.utils.QueryParamUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
 
@@ -28,18 +32,21 @@ public class CastMemberController implements CastMemberAPI {
   private final UpdateCastMemberUseCase updateCastMemberUseCase;
   private final DeleteCastMemberUseCase deleteCastMemberUseCase;
   private final ListCastMemberUseCase listCastMemberUseCase;
+  private final ImportCastMembersUseCase importCastMembersUseCase;
 
   public CastMemberController(
       final CreateCastMemberUseCase createCastMemberUseCase,
       final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
       final UpdateCastMemberUseCase updateCastMemberUseCase,
       final DeleteCastMemberUseCase deleteCastMemberUseCase,
-      final ListCastMemberUseCase listCastMemberUseCase) {
+      final ListCastMemberUseCase listCastMemberUseCase,
+      final ImportCastMembersUseCase importCastMembersUseCase) {
     this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
     this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
     this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
     this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
     this.listCastMemberUseCase = Objects.requireNonNull(listCastMemberUseCase);
+    this.importCastMembersUseCase = Objects.requireNonNull(importCastMembersUseCase);
   }
 
   @Override
@@ -51,6 +58,14 @@ public class CastMemberController implements CastMemberAPI {
     return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
   }
 
+  @Override
+  public ResponseEntity<?> importAll(final InputStream input) {
+    final var commands = NdjsonUtils.read(input, CreateCastMemberRequest.class,
+        it -> CreateCastMemberCommand.with(it.name(), it.type()));
+
+    return ResponseEntity.ok(this.importCastMembersUseCase.execute(commands));
+  }
+
   @Override
   public CastMemberResponse getById(String id) {
     final var output = this.getCastMemberByIdUseCase.execute(id);
@@ -63,8 +78,11 @@ public class CastMemberController implements CastMemberAPI {
       final int page,
       final int perPage,
       final String sort,
-      final String dir) {
-    return this.listCastMemberUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+      final String dir,
+      final String cursor,
+      final String count,
+      final String searchMode) {
+    return this.listCastMemberUseCase.execute(new SearchQuery(page, perPage, search, sort, dir, cursor, QueryParamUtils.countMode(count), QueryParamUtils.searchMode(searchMode)))
         .map(CastMemberPresenter::present);
   }
 
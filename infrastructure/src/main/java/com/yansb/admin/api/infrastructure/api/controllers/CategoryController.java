@@ -4,6 +4,7 @@ import com.yansb.admin.api.application.category.create.CreateCategoryCommand;
 import com.yansb.admin.api.application.category.create.CreateCategoryOutput;
 import com.yansb.admin.api.application.category.create.CreateCategoryUseCase;
 import com.yansb.admin.api.application.category.delete.DeleteCategoryUseCase;
+import com.yansb.admin.api.application.category.imports.ImportCategoriesUseCase;
 import com.yansb.admin.api.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.yansb.admin.api.application.category.retrieve.list.ListCategoriesUseCase;
 import com.yansb.admin.api.application.category.update.UpdateCategoryCommand;
@@ -18,9 +19,12 @@ import com.yansb.admin.api.infrastructure.category.models.CategoryResponse;
 import com.yansb.admin.api.infrastructure.category.models.CreateCategoryRequest;
 import com.yansb.admin.api.infrastructure.category.models.UpdateCategoryRequest;
 import com.yansb.admin.api.infrastructure.category.presenters.CategoryApiPresenter;
+import com.yansb.admin.api.infrastructure.utils.NdjsonUtils;
+import com.yansb.admin.api.infrastructure.utils.QueryParamUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
 import java.util.function.Function;
@@ -34,13 +38,15 @@ public class CategoryController implements CategoryAPI {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
 
-    public CategoryController(CreateCategoryUseCase createCategoryUseCase, final GetCategoryByIdUseCase getCategoryByIdUseCase, final UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase) {
+    public CategoryController(CreateCategoryUseCase createCategoryUseCase, final GetCategoryByIdUseCase getCategoryByIdUseCase, final UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase, final ImportCategoriesUseCase importCategoriesUseCase) {
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
     }
 
     @Override
@@ -60,16 +66,30 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> importCategories(final InputStream input) {
+        final var commands = NdjsonUtils.read(input, CreateCategoryRequest.class, it -> CreateCategoryCommand.with(
+                it.name(),
+                it.description(),
+                it.active() != null ? it.active() : false
+        ));
+
+        return ResponseEntity.ok(this.importCategoriesUseCase.execute(commands));
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String dir
+            final String dir,
+            final String cursor,
+            final String count,
+            final String searchMode
     ) {
         return listCategoriesUseCase.execute(
-                        new SearchQuery(page, perPage, search, sort, dir)
+                        new SearchQuery(page, perPage, search, sort, dir, cursor, QueryParamUtils.countMode(count), QueryParamUtils.searchMode(searchMode))
                 )
                 .map(CategoryApiPresenter::present);
     }
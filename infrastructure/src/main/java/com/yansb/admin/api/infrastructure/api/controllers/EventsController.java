@@ -0,0 +1,23 @@
+package com.yansb.admin.api.infrastructure.api.controllers;
+
+import com.yansb.admin.api.infrastructure.amqp.DeadLetterRouter;
+import com.yansb.admin.api.infrastructure.amqp.models.DeadLetterReplayResponse;
+import com.yansb.admin.api.infrastructure.api.EventsAPI;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class EventsController implements EventsAPI {
+
+    private final DeadLetterRouter deadLetterRouter;
+
+    public EventsController(final DeadLetterRouter deadLetterRouter) {
+        this.deadLetterRouter = Objects.requireNonNull(deadLetterRouter);
+    }
+
+    @Override
+    public DeadLetterReplayResponse replayVideoEncodedDeadLetters(final int limit) {
+        return new DeadLetterReplayResponse(this.deadLetterRouter.replay(Math.max(limit, 0)));
+    }
+}
@@ -3,6 +3,7 @@ package com.yansb.admin.api.infrastructure.api.controllers;
 import com.yansb.admin.api.application.genre.create.CreateGenreCommand;
 import com.yansb.admin.api.application.genre.create.CreateGenreUseCase;
 import com.yansb.admin.api.application.genre.delete.DeleteGenreUseCase;
+import com.yansb.admin.api.application.genre.imports.ImportGenresUseCase;
 import com.yansb.admin.api.application.genre.retrieve.get.GetGenreUseCase;
 import com.yansb.admin.api.application.genre.retrieve.list.ListGenreUseCase;
 import com.yansb.admin.api.application.genre.update.UpdateGenreCommand;
@@ -15,9 +16,12 @@ import com.yansb.admin.api.infrastructure.genre.models.GenreListResponse;
 import com.yansb.admin.api.infrastructure.genre.models.GenreResponse;
 import com.yansb.admin.api.infrastructure.genre.models.UpdateGenreRequest;
 import com.yansb.admin.api.infrastructure.genre.presenters.GenreApiPresenter;
+import com.yansb.admin.api.infrastructure.utils.NdjsonUtils;
+import com.yansb.admin.api.infrastructure.utils.QueryParamUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 
 @RestController
@@ -32,16 +36,20 @@ public class GenreController implements GenreAPI {
 
     private final ListGenreUseCase listGenreUseCase;
 
+    private final ImportGenresUseCase importGenresUseCase;
+
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreUseCase getGenreUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
-            DeleteGenreUseCase deleteGenreUseCase, ListGenreUseCase listGenreUseCase) {
+            DeleteGenreUseCase deleteGenreUseCase, ListGenreUseCase listGenreUseCase,
+            final ImportGenresUseCase importGenresUseCase) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreUseCase = getGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.importGenresUseCase = importGenresUseCase;
     }
 
     @Override
@@ -58,8 +66,19 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(final String search,final int page,final int perPage,final String sort,final  String dir) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+    public ResponseEntity<?> importAll(final InputStream input) {
+        final var commands = NdjsonUtils.read(input, CreateGenreRequest.class, it -> CreateGenreCommand.with(
+                it.name(),
+                it.active(),
+                it.categories()
+        ));
+
+        return ResponseEntity.ok(this.importGenresUseCase.execute(commands));
+    }
+
+    @Override
+    public Pagination<GenreListResponse> list(final String search,final int page,final int perPage,final String sort,final  String dir, final String cursor, final String count, final String searchMode) {
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, dir, cursor, QueryParamUtils.countMode(count), QueryParamUtils.searchMode(searchMode)))
                 .map(GenreApiPresenter::present);
     }
 
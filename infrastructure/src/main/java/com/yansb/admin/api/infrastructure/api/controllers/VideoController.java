@@ -1,10 +1,12 @@
 package com.yansb.admin.api.infrastructure.api.controllers;
 
+import com.yansb.admin.api.application.video.create.BulkCreateVideoUseCase;
 import com.yansb.admin.api.application.video.create.CreateVideoCommand;
 import com.yansb.admin.api.application.video.create.CreateVideoUseCase;
 import com.yansb.admin.api.application.video.delete.DeleteVideoUseCase;
 import com.yansb.admin.api.application.video.media.get.GetMediaCommand;
 import com.yansb.admin.api.application.video.media.get.GetMediaUseCase;
+import com.yansb.admin.api.application.video.media.get.MediaOutput;
 import com.yansb.admin.api.application.video.media.upload.UploadMediaCommand;
 import com.yansb.admin.api.application.video.media.upload.UploadMediaUseCase;
 import com.yansb.admin.api.application.video.retrieve.get.GetVideoByIdUseCase;
@@ -23,26 +25,33 @@ import com.yansb.admin.api.domain.video.VideoMediaType;
 import com.yansb.admin.api.domain.video.VideoResource;
 import com.yansb.admin.api.domain.video.VideoSearchQuery;
 import com.yansb.admin.api.infrastructure.api.VideoAPI;
-import com.yansb.admin.api.infrastructure.utils.HashingUtils;
+import com.yansb.admin.api.infrastructure.utils.QueryParamUtils;
+import com.yansb.admin.api.infrastructure.video.models.BulkCreateVideoResponse;
 import com.yansb.admin.api.infrastructure.video.models.CreateVideoRequest;
 import com.yansb.admin.api.infrastructure.video.models.UpdateVideoRequest;
 import com.yansb.admin.api.infrastructure.video.models.VideoListResponse;
 import com.yansb.admin.api.infrastructure.video.models.VideoResponse;
 import com.yansb.admin.api.infrastructure.video.presenters.VideoApiPresenter;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 @RestController
 public class VideoController implements VideoAPI {
 
     private final CreateVideoUseCase createVideoUseCase;
+    private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
@@ -52,6 +61,7 @@ public class VideoController implements VideoAPI {
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
+            final BulkCreateVideoUseCase bulkCreateVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
@@ -60,6 +70,7 @@ public class VideoController implements VideoAPI {
             final UploadMediaUseCase uploadMediaUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+        this.bulkCreateVideoUseCase = Objects.requireNonNull(bulkCreateVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
@@ -77,7 +88,10 @@ public class VideoController implements VideoAPI {
             final String dir,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final String count,
+            final String searchMode
     ) {
         final var categoriesIds = CollectionUtils.mapTo(categories, CategoryID::from);
         final var genresIds = CollectionUtils.mapTo(genres, GenreID::from);
@@ -91,7 +105,10 @@ public class VideoController implements VideoAPI {
                 dir,
                 categoriesIds,
                 genresIds,
-                castMembersIds
+                castMembersIds,
+                cursor,
+                QueryParamUtils.countMode(count),
+                QueryParamUtils.searchMode(searchMode)
         );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
@@ -157,6 +174,28 @@ public class VideoController implements VideoAPI {
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
     }
 
+    @Override
+    public List<BulkCreateVideoResponse> createBulk(final List<CreateVideoRequest> payload) {
+        final var commands = payload.stream()
+                .map(it -> CreateVideoCommand.with(
+                        it.title(),
+                        it.description(),
+                        it.yearLaunched(),
+                        it.duration(),
+                        it.opened(),
+                        it.published(),
+                        it.rating(),
+                        it.categories(),
+                        it.genres(),
+                        it.castMembers()
+                ))
+                .toList();
+
+        return this.bulkCreateVideoUseCase.execute(commands).stream()
+                .map(VideoApiPresenter::present)
+                .toList();
+    }
+
     @Override
     public VideoResponse getById(final String anId) {
         return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
@@ -191,18 +230,42 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(String id, String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange
+    ) {
         final var aMedia =
                 this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        final var anETag = eTagOf(aMedia);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(
-                        HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=%s".formatted(aMedia.name())
-                )
-                .body(aMedia.content());
+        // a satisfied range is served inline for players; anything else is a whole-file download
+        final var aRange = rangeOf(range, ifRange, anETag);
+        if (aRange.isEmpty()) {
+            return mediaResponse(HttpStatus.OK, aMedia, anETag, "attachment")
+                    .body(streamOf(aMedia));
+        }
+
+        final var total = aMedia.size();
+        final long start;
+        final long end;
+        try {
+            start = aRange.get().getRangeStart(total);
+            end = aRange.get().getRangeEnd(total);
+        } catch (IllegalArgumentException e) {
+            return notSatisfiable(total);
+        }
+
+        if (end < start) {
+            return notSatisfiable(total);
+        }
+
+        final var aPart = aMedia.slice(start, end - start + 1);
+
+        return mediaResponse(HttpStatus.PARTIAL_CONTENT, aPart, anETag, "inline")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, total))
+                .body(streamOf(aPart));
     }
 
     @Override
@@ -219,19 +282,64 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    private ResponseEntity.BodyBuilder mediaResponse(
+            final HttpStatus status,
+            final MediaOutput aMedia,
+            final String anETag,
+            final String aDisposition
+    ) {
+        final var builder = ResponseEntity.status(status)
+                .contentType(MediaType.valueOf(aMedia.contentType()))
+                .contentLength(aMedia.size())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "%s; filename=%s".formatted(aDisposition, aMedia.name())
+                );
+
+        return anETag != null ? builder.eTag(anETag) : builder;
+    }
+
+    private <T> ResponseEntity<T> notSatisfiable(final long total) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(total))
+                .build();
+    }
+
+    private Optional<HttpRange> rangeOf(final String range, final String ifRange, final String anETag) {
+        if (range == null || (ifRange != null && !ifRange.equals(anETag))) {
+            return Optional.empty();
+        }
+
+        try {
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String eTagOf(final MediaOutput aMedia) {
+        return aMedia.checksum() != null ? "\"%s\"".formatted(aMedia.checksum()) : null;
+    }
+
+    private StreamingResponseBody streamOf(final MediaOutput aMedia) {
+        return out -> {
+            try (final var in = aMedia.content().open()) {
+                in.transferTo(out);
+            }
+        };
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
-        try {
-            return Resource.with(
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getBytes(),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
-        }
+        return Resource.with(
+                part::getInputStream,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
     }
 }
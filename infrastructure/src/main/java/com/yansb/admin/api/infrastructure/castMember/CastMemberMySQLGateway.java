@@ -4,12 +4,14 @@ import com.yansb.admin.api.domain.castMember.CastMember;
 import com.yansb.admin.api.domain.castMember.CastMemberGateway;
 import com.yansb.admin.api.domain.castMember.CastMemberID;
 import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
 import com.yansb.admin.api.domain.pagination.SearchQuery;
 import com.yansb.admin.api.infrastructure.castMember.persistence.CastMemberJpaEntity;
 import com.yansb.admin.api.infrastructure.castMember.persistence.CastMemberRepository;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
+import com.yansb.admin.api.infrastructure.persistence.ExistenceCache;
+import com.yansb.admin.api.infrastructure.utils.PaginationUtils;
 import com.yansb.admin.api.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -22,14 +24,31 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
+    private final CountCache counts;
+    private final ExistenceCache existence;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository, final CountCache counts, final ExistenceCache existence) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.counts = Objects.requireNonNull(counts);
+        this.existence = Objects.requireNonNull(existence);
     }
 
     @Override
     public CastMember create(final CastMember aCastMember) {
-        return save(aCastMember);
+        final var result = save(aCastMember);
+        this.existence.invalidate(CastMemberJpaEntity.class, aCastMember.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        if (castMembers.isEmpty()) {
+            return List.of();
+        }
+
+        this.castMemberRepository.persistAll(castMembers.stream().map(CastMemberJpaEntity::from).toList(), castMembers.size());
+        castMembers.forEach(it -> this.existence.invalidate(CastMemberJpaEntity.class, it.getId().getValue()));
+        return castMembers;
     }
 
     @Override
@@ -38,6 +57,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
         }
+        this.existence.invalidate(CastMemberJpaEntity.class, anId);
     }
 
     @Override
@@ -53,25 +73,13 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecificatio)
+                .map(str -> assembleSpecificatio(str, aQuery.searchMode()))
                 .orElse(null);
 
-        final var pageResult = this.castMemberRepository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        return PaginationUtils.findAll(this.castMemberRepository, where, aQuery, this.counts, CastMemberJpaEntity.class)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
@@ -80,7 +88,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .map(CastMemberID::getValue)
                 .toList();
 
-        return this.castMemberRepository.existsByIds(ids).stream()
+        return this.existence.existing(CastMemberJpaEntity.class, ids, this.castMemberRepository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
@@ -90,7 +98,9 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .toAggregate();
     }
 
-    private Specification<CastMemberJpaEntity> assembleSpecificatio(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Specification<CastMemberJpaEntity> assembleSpecificatio(final String terms, final SearchMode mode) {
+        return mode == SearchMode.FULL_TEXT
+                ? SpecificationUtils.match(terms, "name")
+                : SpecificationUtils.like("name", terms);
     }
 }
@@ -4,11 +4,13 @@ import com.yansb.admin.api.domain.category.Category;
 import com.yansb.admin.api.domain.category.CategoryGateway;
 import com.yansb.admin.api.domain.category.CategoryID;
 import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
 import com.yansb.admin.api.domain.pagination.SearchQuery;
 import com.yansb.admin.api.infrastructure.category.persistence.CategoryJpaEntity;
 import com.yansb.admin.api.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
+import com.yansb.admin.api.infrastructure.persistence.ExistenceCache;
+import com.yansb.admin.api.infrastructure.utils.PaginationUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -17,18 +19,36 @@ import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import static com.yansb.admin.api.infrastructure.utils.SpecificationUtils.like;
+import static com.yansb.admin.api.infrastructure.utils.SpecificationUtils.match;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
     private final CategoryRepository repository;
+    private final CountCache counts;
+    private final ExistenceCache existence;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    public CategoryMySQLGateway(CategoryRepository repository, CountCache counts, ExistenceCache existence) {
         this.repository = repository;
+        this.counts = counts;
+        this.existence = existence;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        this.existence.invalidate(CategoryJpaEntity.class, aCategory.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        this.repository.persistAll(categories.stream().map(CategoryJpaEntity::from).toList(), categories.size());
+        categories.forEach(it -> this.existence.invalidate(CategoryJpaEntity.class, it.getId().getValue()));
+        return categories;
     }
 
     @Override
@@ -37,6 +57,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
         if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
         }
+        this.existence.invalidate(CategoryJpaEntity.class, anIdValue);
     }
 
     @Override
@@ -52,24 +73,13 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
+                .map(str -> assembleSpecification(str, aQuery.searchMode()))
                 .orElse(null);
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+
+        return PaginationUtils.findAll(this.repository, specifications, aQuery, this.counts, CategoryJpaEntity.class)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
@@ -78,12 +88,16 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryID::getValue)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existence.existing(CategoryJpaEntity.class, ids, this.repository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
+    private Specification<CategoryJpaEntity> assembleSpecification(final String str, final SearchMode mode) {
+        if (mode == SearchMode.FULL_TEXT) {
+            return match(str, "name", "description");
+        }
+
         final Specification<CategoryJpaEntity> nameLike = like("name", str);
         final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
         return nameLike.or(descriptionLike);
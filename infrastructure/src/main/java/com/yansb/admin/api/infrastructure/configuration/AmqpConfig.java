@@ -3,15 +3,26 @@ package com.yansb.admin.api.infrastructure.configuration;
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoEvents;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+
 @Configuration
 public class AmqpConfig {
 
@@ -29,6 +40,44 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    public ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(Math.max(props.getConcurrency(), 1));
+        factory.setMaxConcurrentConsumers(Math.max(props.getMaxConcurrency(), props.getConcurrency()));
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(Math.max(props.getBatchSize(), 1));
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+        return factory;
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    public PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.outbox")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
 
     @Configuration
     static class Admin {
@@ -57,7 +106,10 @@ public class AmqpConfig {
         @Bean
         @VideoEncodedQueue
         public Queue videoEncodedQueue(@VideoEncodedQueue QueueProperties props) {
-            return new Queue(props.getQueue());
+            return QueueBuilder.durable(props.getQueue())
+                    .deadLetterExchange(props.deadLetterExchange())
+                    .deadLetterRoutingKey(props.getRoutingKey())
+                    .build();
         }
 
         @Bean
@@ -69,5 +121,36 @@ public class AmqpConfig {
         ) {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
+
+        @Bean
+        @VideoEncodedQueue
+        public Declarables videoEncodedDeadLetterTopology(
+                @VideoEncodedQueue QueueProperties props,
+                @VideoEncodedQueue ListenerProperties listenerProps
+        ) {
+            final var declarables = new ArrayList<Declarable>();
+
+            final var deadLetterExchange = new DirectExchange(props.deadLetterExchange());
+            final var deadLetterQueue = QueueBuilder.durable(props.deadLetterQueue()).build();
+            declarables.add(deadLetterExchange);
+            declarables.add(deadLetterQueue);
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(props.getRoutingKey()));
+
+            final var retryExchange = new DirectExchange(props.retryExchange());
+            declarables.add(retryExchange);
+
+            final var delays = listenerProps.getRetryDelays();
+            for (int tier = 0; tier < delays.size(); tier++) {
+                final var retryQueue = QueueBuilder.durable(props.retryQueue(tier))
+                        .ttl((int) delays.get(tier).toMillis())
+                        .deadLetterExchange(props.getExchange())
+                        .deadLetterRoutingKey(props.getRoutingKey())
+                        .build();
+                declarables.add(retryQueue);
+                declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(props.retryRoutingKey(tier)));
+            }
+
+            return new Declarables(declarables);
+        }
     }
 }
@@ -1,12 +1,16 @@
 package com.yansb.admin.api.infrastructure.configuration;
 
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.yansb.admin.api.infrastructure.services.EventService;
-import com.yansb.admin.api.infrastructure.services.impl.RabbitEventService;
+import com.yansb.admin.api.infrastructure.services.impl.BatchingRabbitEventService;
+import com.yansb.admin.api.infrastructure.services.impl.OutboxEventService;
 import com.yansb.admin.api.infrastructure.services.local.InMemoryEventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -25,10 +29,22 @@ public class EventConfig {
     @Bean
     @VideoCreatedQueue
     @ConditionalOnMissingBean
-    EventService videoCreatedEventService(
+    @ConditionalOnProperty(name = "amqp.publisher.mode", havingValue = "batched")
+    EventService batchingVideoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
+            final PublisherProperties publisherProps,
             final RabbitOperations ops
     ) {
-        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        return new BatchingRabbitEventService(props.getExchange(), props.getRoutingKey(), ops, publisherProps);
+    }
+
+    @Bean
+    @VideoCreatedQueue
+    @ConditionalOnMissingBean
+    EventService videoCreatedEventService(
+            @VideoCreatedQueue final QueueProperties props,
+            final OutboxEventRepository outboxRepository
+    ) {
+        return new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxRepository);
     }
 }
@@ -0,0 +1,16 @@
+package com.yansb.admin.api.infrastructure.configuration;
+
+import com.yansb.admin.api.infrastructure.configuration.properties.imports.ImportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "imports")
+    public ImportProperties importProperties() {
+        return new ImportProperties();
+    }
+}
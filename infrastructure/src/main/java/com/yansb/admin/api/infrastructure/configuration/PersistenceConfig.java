@@ -0,0 +1,35 @@
+package com.yansb.admin.api.infrastructure.configuration;
+
+import com.yansb.admin.api.infrastructure.configuration.properties.persistence.CountCacheProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.persistence.ExistenceCacheProperties;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
+import com.yansb.admin.api.infrastructure.persistence.ExistenceCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "persistence.count-cache")
+    public CountCacheProperties countCacheProperties() {
+        return new CountCacheProperties();
+    }
+
+    @Bean
+    public CountCache countCache(final CountCacheProperties properties) {
+        return new CountCache(properties.getTtl(), properties.getMaximumSize());
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "persistence.existence-cache")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+    @Bean
+    public ExistenceCache existenceCache(final ExistenceCacheProperties properties) {
+        return new ExistenceCache(properties.getTtl(), properties.getNegativeTtl(), properties.getMaximumSize());
+    }
+}
@@ -2,16 +2,21 @@ package com.yansb.admin.api.infrastructure.configuration;
 
 import com.google.cloud.storage.Storage;
 import com.yansb.admin.api.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.storage.MediaCleanupProperties;
 import com.yansb.admin.api.infrastructure.configuration.properties.storage.StorageProperties;
 import com.yansb.admin.api.infrastructure.services.StorageService;
 import com.yansb.admin.api.infrastructure.services.impl.GCStorageService;
+import com.yansb.admin.api.infrastructure.services.impl.ResumableUploadSessions;
 import com.yansb.admin.api.infrastructure.services.local.InMemoryStorageService;
+import com.yansb.admin.api.infrastructure.services.local.LocalFileStorageService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,6 +26,12 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.catalogo-videos.cleanup")
+    public MediaCleanupProperties mediaCleanupProperties() {
+        return new MediaCleanupProperties();
+    }
+
     @Bean(name = "storageService")
     @Profile({
             "development",
@@ -31,12 +42,23 @@ public class StorageConfig {
         return new InMemoryStorageService();
     }
 
+    @Bean(name = "storageService")
+    @Profile("local-storage")
+    public StorageService localFileStorageService(final StorageProperties props) {
+        return new LocalFileStorageService(Path.of(props.getLocalRoot()));
+    }
+
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
     public StorageService gcStorageService(
             final GoogleStorageProperties props,
             final Storage storage
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        return new GCStorageService(
+                props.getBucket(),
+                storage,
+                props.getUploadChunkSize(),
+                new ResumableUploadSessions(props.getUploadSessionTtl(), props.getUploadSessionMaxEntries())
+        );
     }
 }
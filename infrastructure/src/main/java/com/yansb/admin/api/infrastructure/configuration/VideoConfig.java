@@ -0,0 +1,16 @@
+package com.yansb.admin.api.infrastructure.configuration;
+
+import com.yansb.admin.api.infrastructure.configuration.properties.video.VideoValidationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VideoConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "videos.validation")
+    public VideoValidationProperties videoValidationProperties() {
+        return new VideoValidationProperties();
+    }
+}
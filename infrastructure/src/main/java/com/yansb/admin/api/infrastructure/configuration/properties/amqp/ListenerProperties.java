@@ -0,0 +1,87 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+    private int concurrency = 1;
+    private int maxConcurrency = 1;
+    private int prefetch = 250;
+    private int batchSize = 1;
+    private Duration receiveTimeout = Duration.ofMillis(100);
+    private List<Duration> retryDelays = List.of(Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    public ListenerProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    public void setReceiveTimeout(Duration receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+
+    public List<Duration> getRetryDelays() {
+        return retryDelays;
+    }
+
+    public void setRetryDelays(List<Duration> retryDelays) {
+        this.retryDelays = retryDelays;
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "concurrency=" + concurrency +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetch=" + prefetch +
+                ", batchSize=" + batchSize +
+                ", receiveTimeout=" + receiveTimeout +
+                ", retryDelays=" + retryDelays +
+                '}';
+    }
+}
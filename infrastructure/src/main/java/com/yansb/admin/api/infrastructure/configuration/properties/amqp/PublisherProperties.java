@@ -0,0 +1,96 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PublisherProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherProperties.class);
+    private String mode = "outbox";
+    private int batchSize = 500;
+    private Duration linger = Duration.ofMillis(5);
+    private int maxInFlight = 5000;
+    private int bufferSize = 50000;
+    private int maxRetries = 3;
+    private Duration confirmTimeout = Duration.ofSeconds(10);
+
+    public PublisherProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(Duration linger) {
+        this.linger = linger;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherProperties{" +
+                "mode='" + mode + '\'' +
+                ", batchSize=" + batchSize +
+                ", linger=" + linger +
+                ", maxInFlight=" + maxInFlight +
+                ", bufferSize=" + bufferSize +
+                ", maxRetries=" + maxRetries +
+                ", confirmTimeout=" + confirmTimeout +
+                '}';
+    }
+}
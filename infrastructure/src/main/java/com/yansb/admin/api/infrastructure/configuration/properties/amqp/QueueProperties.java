@@ -43,6 +43,26 @@ public class QueueProperties implements InitializingBean {
         this.queue = queue;
     }
 
+    public String deadLetterExchange() {
+        return exchange + ".dlx";
+    }
+
+    public String deadLetterQueue() {
+        return queue + ".dlq";
+    }
+
+    public String retryExchange() {
+        return exchange + ".retry";
+    }
+
+    public String retryQueue(final int tier) {
+        return queue + ".retry." + tier;
+    }
+
+    public String retryRoutingKey(final int tier) {
+        return routingKey + ".retry." + tier;
+    }
+
     @Override
     public String toString() {
         return "QueueProperties{" +
@@ -4,6 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
+
 public class GoogleStorageProperties implements InitializingBean {
     private static final Logger log = LoggerFactory.getLogger(GoogleStorageProperties.class);
     private String bucket;
@@ -13,6 +15,9 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxDelay;
     private int retryMaxAttempts;
     private double retryMultiplier;
+    private int uploadChunkSize;
+    private Duration uploadSessionTtl = Duration.ofDays(7);
+    private long uploadSessionMaxEntries = 10_000;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -29,6 +34,9 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMultiplier=" + retryMultiplier +
+                ", uploadChunkSize=" + uploadChunkSize +
+                ", uploadSessionTtl=" + uploadSessionTtl +
+                ", uploadSessionMaxEntries=" + uploadSessionMaxEntries +
                 '}';
     }
 
@@ -88,5 +96,29 @@ public class GoogleStorageProperties implements InitializingBean {
         this.retryMultiplier = retryMultiplier;
     }
 
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public void setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
+    public Duration getUploadSessionTtl() {
+        return uploadSessionTtl;
+    }
+
+    public void setUploadSessionTtl(Duration uploadSessionTtl) {
+        this.uploadSessionTtl = uploadSessionTtl;
+    }
+
+    public long getUploadSessionMaxEntries() {
+        return uploadSessionMaxEntries;
+    }
+
+    public void setUploadSessionMaxEntries(long uploadSessionMaxEntries) {
+        this.uploadSessionMaxEntries = uploadSessionMaxEntries;
+    }
+
 
 }
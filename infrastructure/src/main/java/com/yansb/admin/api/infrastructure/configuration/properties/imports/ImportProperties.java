@@ -0,0 +1,44 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.imports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ImportProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportProperties.class);
+    private int batchSize = 500;
+    private int maxReportedErrors = 100;
+
+    public ImportProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ImportProperties{" +
+                "batchSize=" + batchSize +
+                ", maxReportedErrors=" + maxReportedErrors +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CountCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CountCacheProperties.class);
+    private Duration ttl = Duration.ofMinutes(1);
+    private long maximumSize = 10_000;
+
+    public CountCacheProperties() {
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CountCacheProperties{" +
+                "ttl=" + ttl +
+                ", maximumSize=" + maximumSize +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+    private Duration ttl = Duration.ofMinutes(10);
+    private Duration negativeTtl = Duration.ofSeconds(5);
+    private long maximumSize = 100_000;
+
+    public ExistenceCacheProperties() {
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+                "ttl=" + ttl +
+                ", negativeTtl=" + negativeTtl +
+                ", maximumSize=" + maximumSize +
+                '}';
+    }
+}
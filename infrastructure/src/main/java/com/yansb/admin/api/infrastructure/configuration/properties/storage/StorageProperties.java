@@ -9,6 +9,13 @@ public class StorageProperties implements InitializingBean {
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
     private String locationPattern;
     private String fileNamePattern;
+    private String localRoot;
+    private int uploadConcurrency;
+    private int uploadQueueCapacity;
+    private boolean contentAddressed;
+    private int listPageSize;
+    private int deleteBatchSize;
+    private int deleteConcurrency;
 
     public StorageProperties() {
     }
@@ -29,6 +36,62 @@ public class StorageProperties implements InitializingBean {
         this.fileNamePattern = fileNamePattern;
     }
 
+    public String getLocalRoot() {
+        return localRoot;
+    }
+
+    public void setLocalRoot(String localRoot) {
+        this.localRoot = localRoot;
+    }
+
+    public int getUploadConcurrency() {
+        return uploadConcurrency;
+    }
+
+    public void setUploadConcurrency(int uploadConcurrency) {
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
+    public int getUploadQueueCapacity() {
+        return uploadQueueCapacity;
+    }
+
+    public void setUploadQueueCapacity(int uploadQueueCapacity) {
+        this.uploadQueueCapacity = uploadQueueCapacity;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
+    public int getListPageSize() {
+        return listPageSize;
+    }
+
+    public void setListPageSize(int listPageSize) {
+        this.listPageSize = listPageSize;
+    }
+
+    public int getDeleteBatchSize() {
+        return deleteBatchSize;
+    }
+
+    public void setDeleteBatchSize(int deleteBatchSize) {
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    public int getDeleteConcurrency() {
+        return deleteConcurrency;
+    }
+
+    public void setDeleteConcurrency(int deleteConcurrency) {
+        this.deleteConcurrency = deleteConcurrency;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -39,6 +102,13 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", fileNamePattern='" + fileNamePattern + '\'' +
+                ", localRoot='" + localRoot + '\'' +
+                ", uploadConcurrency=" + uploadConcurrency +
+                ", uploadQueueCapacity=" + uploadQueueCapacity +
+                ", contentAddressed=" + contentAddressed +
+                ", listPageSize=" + listPageSize +
+                ", deleteBatchSize=" + deleteBatchSize +
+                ", deleteConcurrency=" + deleteConcurrency +
                 '}';
     }
 }
@@ -0,0 +1,44 @@
+package com.yansb.admin.api.infrastructure.configuration.properties.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class VideoValidationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoValidationProperties.class);
+    private int concurrency = 12;
+    private int queueCapacity = 256;
+
+    public VideoValidationProperties() {
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "VideoValidationProperties{" +
+                "concurrency=" + concurrency +
+                ", queueCapacity=" + queueCapacity +
+                '}';
+    }
+}
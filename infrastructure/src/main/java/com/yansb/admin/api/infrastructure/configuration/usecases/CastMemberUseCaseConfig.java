@@ -4,6 +4,8 @@ import com.yansb.admin.api.application.castMember.create.CreateCastMemberUseCase
 import com.yansb.admin.api.application.castMember.create.DefaultCreateCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.delete.DefaultDeleteCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.delete.DeleteCastMemberUseCase;
+import com.yansb.admin.api.application.castMember.imports.DefaultImportCastMembersUseCase;
+import com.yansb.admin.api.application.castMember.imports.ImportCastMembersUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.get.GetCastMemberByIdUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.list.DefaultListCastMemberUseCase;
@@ -11,6 +13,7 @@ import com.yansb.admin.api.application.castMember.retrieve.list.ListCastMemberUs
 import com.yansb.admin.api.application.castMember.update.DefaultUpdateCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.update.UpdateCastMemberUseCase;
 import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +33,11 @@ public class CastMemberUseCaseConfig {
     return new DefaultCreateCastMemberUseCase(castMemberGateway);
   }
 
+  @Bean
+  public ImportCastMembersUseCase importCastMembersUseCase(final ImportProperties importProperties) {
+    return new DefaultImportCastMembersUseCase(castMemberGateway, importProperties.getBatchSize(), importProperties.getMaxReportedErrors());
+  }
+
   @Bean
   public DeleteCastMemberUseCase deleteCastMemberUseCase() {
     return new DefaultDeleteCastMemberUseCase(castMemberGateway);
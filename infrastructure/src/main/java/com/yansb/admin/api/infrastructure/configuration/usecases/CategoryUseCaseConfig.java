@@ -4,6 +4,8 @@ import com.yansb.admin.api.application.category.create.CreateCategoryUseCase;
 import com.yansb.admin.api.application.category.create.DefaultCreateCategoryUseCase;
 import com.yansb.admin.api.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.yansb.admin.api.application.category.delete.DeleteCategoryUseCase;
+import com.yansb.admin.api.application.category.imports.DefaultImportCategoriesUseCase;
+import com.yansb.admin.api.application.category.imports.ImportCategoriesUseCase;
 import com.yansb.admin.api.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.yansb.admin.api.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.yansb.admin.api.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -11,6 +13,7 @@ import com.yansb.admin.api.application.category.retrieve.list.ListCategoriesUseC
 import com.yansb.admin.api.application.category.update.DefaultUpdateCategoryUseCase;
 import com.yansb.admin.api.application.category.update.UpdateCategoryUseCase;
 import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,6 +31,11 @@ public class CategoryUseCaseConfig {
     return new DefaultCreateCategoryUseCase(categoryGateway);
   }
 
+  @Bean
+  public ImportCategoriesUseCase importCategoriesUseCase(final ImportProperties importProperties){
+    return new DefaultImportCategoriesUseCase(categoryGateway, importProperties.getBatchSize(), importProperties.getMaxReportedErrors());
+  }
+
   @Bean
   public UpdateCategoryUseCase updateCategoryUseCase(){
     return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -4,6 +4,8 @@ import com.yansb.admin.api.application.genre.create.CreateGenreUseCase;
 import com.yansb.admin.api.application.genre.create.DefaultCreateGenreUseCase;
 import com.yansb.admin.api.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.yansb.admin.api.application.genre.delete.DeleteGenreUseCase;
+import com.yansb.admin.api.application.genre.imports.DefaultImportGenresUseCase;
+import com.yansb.admin.api.application.genre.imports.ImportGenresUseCase;
 import com.yansb.admin.api.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import com.yansb.admin.api.application.genre.retrieve.get.GetGenreUseCase;
 import com.yansb.admin.api.application.genre.retrieve.list.DefaultListGenreUseCase;
@@ -12,6 +14,7 @@ import com.yansb.admin.api.application.genre.update.DefaultUpdateGenreUseCase;
 import com.yansb.admin.api.application.genre.update.UpdateGenreUseCase;
 import com.yansb.admin.api.domain.category.CategoryGateway;
 import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -33,6 +36,11 @@ public class GenreUseCaseConfig {
     return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
   }
 
+  @Bean
+  public ImportGenresUseCase importGenresUseCase(final ImportProperties importProperties) {
+    return new DefaultImportGenresUseCase(categoryGateway, genreGateway, importProperties.getBatchSize(), importProperties.getMaxReportedErrors());
+  }
+
   @Bean
   public DeleteGenreUseCase deleteGenreUseCase() {
     return new DefaultDeleteGenreUseCase(genreGateway);
@@ -1,11 +1,15 @@
 package com.yansb.admin.api.infrastructure.configuration.usecases;
 
+import com.yansb.admin.api.application.video.create.BulkCreateVideoUseCase;
 import com.yansb.admin.api.application.video.create.CreateVideoUseCase;
+import com.yansb.admin.api.application.video.create.DefaultBulkCreateVideoUseCase;
 import com.yansb.admin.api.application.video.create.DefaultCreateVideoUseCase;
 import com.yansb.admin.api.application.video.delete.DefaultDeleteVideoUseCase;
 import com.yansb.admin.api.application.video.delete.DeleteVideoUseCase;
 import com.yansb.admin.api.application.video.media.get.DefaultGetMediaUseCase;
 import com.yansb.admin.api.application.video.media.get.GetMediaUseCase;
+import com.yansb.admin.api.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.yansb.admin.api.application.video.media.update.DefaultBatchUpdateMediaStatusUseCase;
 import com.yansb.admin.api.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.yansb.admin.api.application.video.media.update.UpdateMediaStatusUseCase;
 import com.yansb.admin.api.application.video.media.upload.DefaultUploadMediaUseCase;
@@ -21,13 +25,22 @@ import com.yansb.admin.api.domain.category.CategoryGateway;
 import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.video.MediaResourceGateway;
 import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.infrastructure.configuration.properties.storage.StorageProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.video.VideoValidationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.annotation.PreDestroy;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class VideoUseCaseConfig {
+
     private final VideoGateway videoGateway;
 
     private final CategoryGateway categoryGateway;
@@ -38,19 +51,41 @@ public class VideoUseCaseConfig {
 
     private final MediaResourceGateway mediaResourceGateway;
 
+    private final ExecutorService mediaStoreExecutor;
+
+    private final ExecutorService validationExecutor;
+
 
     public VideoUseCaseConfig(
             VideoGateway videoGateway,
             CategoryGateway categoryGateway,
             GenreGateway genreGateway,
             CastMemberGateway castMemberGateway,
-            MediaResourceGateway mediaResourceGateway
+            MediaResourceGateway mediaResourceGateway,
+            StorageProperties storageProperties,
+            VideoValidationProperties validationProperties
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaStoreExecutor = boundedPool(
+                "media-store-",
+                storageProperties.getUploadConcurrency(),
+                storageProperties.getUploadQueueCapacity()
+        );
+        this.validationExecutor = boundedPool(
+                "video-validation-",
+                validationProperties.getConcurrency(),
+                validationProperties.getQueueCapacity()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.mediaStoreExecutor.shutdown();
+        this.validationExecutor.shutdown();
     }
 
     @Bean
@@ -58,9 +93,19 @@ public class VideoUseCaseConfig {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
 
+    @Bean
+    public BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase() {
+        return new DefaultBatchUpdateMediaStatusUseCase(videoGateway);
+    }
+
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway);
+        return new DefaultCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway, mediaStoreExecutor, validationExecutor);
+    }
+
+    @Bean
+    public BulkCreateVideoUseCase bulkCreateVideoUseCase() {
+        return new DefaultBulkCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, validationExecutor);
     }
 
     @Bean
@@ -70,12 +115,12 @@ public class VideoUseCaseConfig {
 
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
-        return new DefaultUpdateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway);
+        return new DefaultUpdateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway, mediaStoreExecutor, validationExecutor);
     }
 
     @Bean
     public DeleteVideoUseCase deleteVideoUseCase() {
-        return new DefaultDeleteVideoUseCase(videoGateway, mediaResourceGateway);
+        return new DefaultDeleteVideoUseCase(videoGateway);
     }
 
     @Bean
@@ -93,5 +138,25 @@ public class VideoUseCaseConfig {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
     }
 
-
+    /**
+     * Once the queue is full {@code execute} throws {@link java.util.concurrent.RejectedExecutionException} and the
+     * media store and reference validator run the task on the calling thread instead.
+     */
+    private static ExecutorService boundedPool(final String prefix, final int concurrency, final int queueCapacity) {
+        final var threads = new AtomicInteger();
+        final var size = Math.max(concurrency, 1);
+        return new ThreadPoolExecutor(
+                size,
+                size,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                task -> {
+                    final var thread = new Thread(task, prefix + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
 }
@@ -4,12 +4,14 @@ import com.yansb.admin.api.domain.genre.Genre;
 import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
 import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
 import com.yansb.admin.api.domain.pagination.SearchQuery;
 import com.yansb.admin.api.infrastructure.genre.persistence.GenreJpaEntity;
 import com.yansb.admin.api.infrastructure.genre.persistence.GenreRepository;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
+import com.yansb.admin.api.infrastructure.persistence.ExistenceCache;
+import com.yansb.admin.api.infrastructure.utils.PaginationUtils;
 import com.yansb.admin.api.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -22,14 +24,31 @@ import java.util.stream.StreamSupport;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
+    private final CountCache counts;
+    private final ExistenceCache existence;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(final GenreRepository genreRepository, final CountCache counts, final ExistenceCache existence) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.counts = Objects.requireNonNull(counts);
+        this.existence = Objects.requireNonNull(existence);
     }
 
     @Override
     public Genre create(Genre aGenre) {
-        return save(aGenre);
+        final var result = save(aGenre);
+        this.existence.invalidate(GenreJpaEntity.class, aGenre.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        this.genreRepository.persistAll(genres.stream().map(GenreJpaEntity::from).toList(), genres.size());
+        genres.forEach(it -> this.existence.invalidate(GenreJpaEntity.class, it.getId().getValue()));
+        return genres;
     }
 
     private Genre save(Genre aGenre) {
@@ -43,7 +62,7 @@ public class GenreMySQLGateway implements GenreGateway {
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
         }
-
+        this.existence.invalidate(GenreJpaEntity.class, aGenreId);
     }
 
     @Override
@@ -60,26 +79,13 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
+                .map(str -> assembleSpecification(str, aQuery.searchMode()))
                 .orElse(null);
 
-        final var pageResult =
-                this.genreRepository.findAll(Specification.where(where), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).stream().toList()
-        );
+        return PaginationUtils.findAll(this.genreRepository, where, aQuery, this.counts, GenreJpaEntity.class)
+                .map(GenreJpaEntity::toAggregate);
     }
 
     @Override
@@ -88,12 +94,14 @@ public class GenreMySQLGateway implements GenreGateway {
                 .map(GenreID::getValue)
                 .toList();
 
-        return this.genreRepository.existsByIds(ids).stream()
+        return this.existence.existing(GenreJpaEntity.class, ids, this.genreRepository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Specification<GenreJpaEntity> assembleSpecification(final String terms, final SearchMode mode) {
+        return mode == SearchMode.FULL_TEXT
+                ? SpecificationUtils.match(terms, "name")
+                : SpecificationUtils.like("name", terms);
     }
 }
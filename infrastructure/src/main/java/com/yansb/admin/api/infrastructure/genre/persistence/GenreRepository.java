@@ -1,15 +1,15 @@
 package com.yansb.admin.api.infrastructure.genre.persistence;
 
+import com.yansb.admin.api.infrastructure.persistence.KeysetRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends KeysetRepository<GenreJpaEntity, String> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
     @Query("select g.id from Genre g where g.id in :ids")
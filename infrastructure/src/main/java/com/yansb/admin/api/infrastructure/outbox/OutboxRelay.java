@@ -0,0 +1,215 @@
+package com.yansb.admin.api.infrastructure.outbox;
+
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("!development")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxProperties props;
+    private final OutboxEventRepository outboxRepository;
+    private final RabbitOperations ops;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService poller;
+    private final AtomicLong pending;
+    private final AtomicLong lag;
+    private final Counter published;
+    private final Counter failed;
+    private final Counter dead;
+
+    public OutboxRelay(
+            final OutboxProperties props,
+            final OutboxEventRepository outboxRepository,
+            final RabbitOperations ops,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.props = Objects.requireNonNull(props);
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.ops = Objects.requireNonNull(ops);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.poller = Executors.newSingleThreadScheduledExecutor(task -> {
+            final var thread = new Thread(task, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = new AtomicLong();
+        this.lag = new AtomicLong();
+
+        Gauge.builder("outbox.events.pending", pending, AtomicLong::get)
+                .description("Events waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.lag", lag, AtomicLong::get)
+                .description("Age of the oldest event waiting in the outbox")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.published = meterRegistry.counter("outbox.events.relayed", "outcome", "published");
+        this.failed = meterRegistry.counter("outbox.events.relayed", "outcome", "failed");
+        this.dead = meterRegistry.counter("outbox.events.relayed", "outcome", "dead");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!this.props.isEnabled()) {
+            log.info("[outbox:relay] [status:disabled]");
+            return;
+        }
+
+        final var interval = this.props.getPollInterval().toMillis();
+        this.poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.poller.shutdownNow();
+    }
+
+    /**
+     * Claims a batch by leasing it in a short transaction, publishes it and waits for the broker confirms
+     * without holding row locks or a connection, then settles the batch in a second short transaction.
+     * Rows whose lease expires (e.g. the relay died mid-batch) are claimed again by the next poll.
+     */
+    public int relay() {
+        final var batch = claim();
+        if (batch.isEmpty()) {
+            refreshMetrics();
+            return 0;
+        }
+
+        final var confirms = batch.stream().map(this::publish).toList();
+        final var deadline = System.nanoTime() + this.props.getConfirmTimeout().toNanos();
+
+        final var acked = new ArrayList<Long>(batch.size());
+        final var nacked = new ArrayList<OutboxEventJpaEntity>();
+        for (int i = 0; i < batch.size(); i++) {
+            final var anEvent = batch.get(i);
+            if (awaitConfirm(confirms.get(i), deadline)) {
+                acked.add(anEvent.getId());
+            } else {
+                nacked.add(anEvent);
+            }
+        }
+
+        this.transactionTemplate.executeWithoutResult(status -> complete(acked, nacked));
+
+        refreshMetrics();
+        return acked.size();
+    }
+
+    private List<OutboxEventJpaEntity> claim() {
+        return Objects.requireNonNull(this.transactionTemplate.execute(status -> {
+            final var now = Instant.now();
+            final var batch = this.outboxRepository.findDue(now, Math.max(this.props.getBatchSize(), 1));
+            if (!batch.isEmpty()) {
+                final var ids = batch.stream().map(OutboxEventJpaEntity::getId).toList();
+                this.outboxRepository.lease(ids, now.plus(this.props.getLeaseDuration()));
+            }
+            return batch;
+        }));
+    }
+
+    private void poll() {
+        try {
+            while (relay() >= this.props.getBatchSize()) {
+                log.debug("[outbox:relay] [status:draining]");
+            }
+        } catch (final Exception e) {
+            log.error("[outbox:relay] [status:poll-failed]", e);
+        }
+    }
+
+    private CompletableFuture<Boolean> publish(final OutboxEventJpaEntity anEvent) {
+        final var correlation = new CorrelationData(String.valueOf(anEvent.getId()));
+        try {
+            this.ops.convertAndSend(anEvent.getExchange(), anEvent.getRoutingKey(), anEvent.getPayload(), correlation);
+            return correlation.getFuture().completable().thenApply(CorrelationData.Confirm::isAck);
+        } catch (final AmqpException e) {
+            log.warn("[outbox:relay] [id:{}] [status:send-failed]", anEvent.getId(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    private boolean awaitConfirm(final CompletableFuture<Boolean> confirm, final long deadline) {
+        try {
+            return confirm.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException | ExecutionException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void complete(final List<Long> acked, final List<OutboxEventJpaEntity> nacked) {
+        if (!acked.isEmpty()) {
+            this.outboxRepository.deleteAllByIdInBatch(acked);
+            this.published.increment(acked.size());
+        }
+        if (!nacked.isEmpty()) {
+            final var now = Instant.now();
+            nacked.stream()
+                    .collect(Collectors.groupingBy(
+                            it -> it.getAttempts() + 1,
+                            Collectors.mapping(OutboxEventJpaEntity::getId, Collectors.toList())))
+                    .forEach((attempts, ids) -> this.outboxRepository.incrementAttempts(
+                            ids, now.plus(backoff(attempts)).truncatedTo(ChronoUnit.MICROS)));
+            this.failed.increment(nacked.size());
+            log.warn("[outbox:relay] [published:{}] [failed:{}] [status:partial]", acked.size(), nacked.size());
+
+            final var nackedIds = nacked.stream().map(OutboxEventJpaEntity::getId).toList();
+            final var dead = this.outboxRepository.markFailed(nackedIds, this.props.getMaxAttempts(), now);
+            if (dead > 0) {
+                this.dead.increment(dead);
+                log.error("[outbox:relay] [dead:{}] [max-attempts:{}] [status:gave-up]", dead, this.props.getMaxAttempts());
+            }
+        }
+    }
+
+    private Duration backoff(final int attempts) {
+        final var initial = this.props.getInitialBackoff();
+        final var max = this.props.getMaxBackoff();
+        final var exponent = Math.min(attempts - 1, 30);
+        final var delay = initial.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private void refreshMetrics() {
+        this.pending.set(this.outboxRepository.countPending());
+        final var oldest = this.outboxRepository.findOldestCreatedAt();
+        this.lag.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis());
+    }
+}
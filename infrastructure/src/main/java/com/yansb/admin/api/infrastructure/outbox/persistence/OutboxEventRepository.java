@@ -0,0 +1,41 @@
+package com.yansb.admin.api.infrastructure.outbox.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    @Query(value = """
+            select * from events_outbox
+            where failed_at is null
+              and (next_attempt_at is null or next_attempt_at <= :now)
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEventJpaEntity> findDue(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.nextAttemptAt = :lease where e.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("lease") Instant lease);
+
+    @Query("select count(e) from OutboxEvent e where e.failedAt is null")
+    long countPending();
+
+    @Query("select min(e.createdAt) from OutboxEvent e where e.failedAt is null")
+    Instant findOldestCreatedAt();
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :next where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids, @Param("next") Instant nextAttemptAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.failedAt = :now where e.id in :ids and e.attempts >= :maxAttempts")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts, @Param("now") Instant now);
+}
@@ -0,0 +1,30 @@
+package com.yansb.admin.api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Estimated totals shared by every gateway, keyed by the entity type and the search signature so equal
+ * terms on different aggregates never share a count.
+ */
+public class CountCache {
+
+    private final Cache<Key, Long> counts;
+
+    public CountCache(final Duration ttl, final long maximumSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public long get(final Class<?> type, final String signature, final LongSupplier count) {
+        return this.counts.get(new Key(type, signature), key -> count.getAsLong());
+    }
+
+    private record Key(Class<?> type, String signature) {
+    }
+}
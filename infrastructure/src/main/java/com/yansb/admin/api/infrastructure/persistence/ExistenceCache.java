@@ -0,0 +1,87 @@
+package com.yansb.admin.api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class ExistenceCache {
+
+    private final Cache<Key, Boolean> entries;
+
+    public ExistenceCache(final Duration ttl, final Duration negativeTtl, final long maximumSize) {
+        final var ttlNanos = ttl.toNanos();
+        final var negativeTtlNanos = negativeTtl.toNanos();
+
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Key, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(final Key key, final Boolean exists, final long currentTime) {
+                        return exists ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final Key key, final Boolean exists, final long currentTime, final long currentDuration) {
+                        return expireAfterCreate(key, exists, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final Key key, final Boolean exists, final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public List<String> existing(
+            final Class<?> type,
+            final List<String> ids,
+            final Function<List<String>, List<String>> loader
+    ) {
+        final var keys = ids.stream()
+                .map(id -> new Key(type, id))
+                .toList();
+
+        final var actual = this.entries.getAll(keys, missing -> load(type, missing, loader));
+
+        return ids.stream()
+                .distinct()
+                .filter(id -> Boolean.TRUE.equals(actual.get(new Key(type, id))))
+                .toList();
+    }
+
+    public void invalidate(final Class<?> type, final String id) {
+        this.entries.invalidate(new Key(type, id));
+    }
+
+    public void invalidateAll() {
+        this.entries.invalidateAll();
+    }
+
+    private static Map<Key, Boolean> load(
+            final Class<?> type,
+            final Iterable<? extends Key> missing,
+            final Function<List<String>, List<String>> loader
+    ) {
+        final var ids = StreamSupport.stream(missing.spliterator(), false)
+                .map(Key::id)
+                .distinct()
+                .toList();
+
+        final var existing = Set.copyOf(loader.apply(ids));
+
+        return ids.stream()
+                .collect(Collectors.toMap(id -> new Key(type, id), existing::contains));
+    }
+
+    private record Key(Class<?> type, String id) {
+    }
+}
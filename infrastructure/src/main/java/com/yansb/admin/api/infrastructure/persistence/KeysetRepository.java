@@ -0,0 +1,29 @@
+package com.yansb.admin.api.infrastructure.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends JpaRepository<T, ID> {
+
+    Page<T> findAll(Specification<T> whereClause, Pageable page);
+
+    List<T> findAll(Specification<T> whereClause, Sort sort, int limit);
+
+    List<T> findAll(Specification<T> whereClause, Sort sort, int offset, int limit);
+
+    long count(Specification<T> whereClause);
+
+    /**
+     * Inserts new entities with {@code persist} instead of {@code merge}, so assigned ids do not cost a select
+     * per entity and the inserts can be grouped into JDBC batches. Persisted entities are flushed and detached
+     * every {@code flushSize} rows to keep the persistence context small.
+     */
+    <S extends T> List<S> persistAll(Iterable<S> entities, int flushSize);
+}
@@ -0,0 +1,70 @@
+package com.yansb.admin.api.infrastructure.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeysetRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public KeysetRepositoryImpl(
+            final JpaEntityInformation<T, ?> entityInformation,
+            final EntityManager entityManager
+    ) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAll(final Specification<T> whereClause, final Sort sort, final int limit) {
+        return findAll(whereClause, sort, 0, limit);
+    }
+
+    @Override
+    public List<T> findAll(final Specification<T> whereClause, final Sort sort, final int offset, final int limit) {
+        return getQuery(whereClause, sort)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> persistAll(final Iterable<S> entities, final int flushSize) {
+        Assert.notNull(entities, "Entities must not be null");
+        Assert.isTrue(flushSize > 0, "Flush size must be greater than zero");
+
+        final var persisted = new ArrayList<S>();
+        final var pending = new ArrayList<S>(flushSize);
+
+        for (final S entity : entities) {
+            this.entityManager.persist(entity);
+            persisted.add(entity);
+            pending.add(entity);
+
+            if (pending.size() == flushSize) {
+                flushAndDetach(pending);
+            }
+        }
+
+        flushAndDetach(pending);
+        return persisted;
+    }
+
+    private void flushAndDetach(final List<? extends T> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        this.entityManager.flush();
+        pending.forEach(this.entityManager::detach);
+        pending.clear();
+    }
+}
@@ -0,0 +1,61 @@
+package com.yansb.admin.api.infrastructure.persistence;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.MySQL5InnoDBDialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+public class MySQLFullTextDialect extends MySQL5InnoDBDialect {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    public MySQLFullTextDialect() {
+        super();
+        registerFunction(MATCH_AGAINST, new MatchAgainstFunction());
+    }
+
+    /**
+     * Renders {@code match_against(col1, ..., colN, terms)} as a boolean mode
+     * {@code MATCH (col1, ..., colN) AGAINST (terms IN BOOLEAN MODE)}, whose value is the row relevance.
+     */
+    private static final class MatchAgainstFunction implements SQLFunction {
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return false;
+        }
+
+        @Override
+        public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+            return StandardBasicTypes.DOUBLE;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+            final List<?> args = arguments;
+            if (args.size() < 2) {
+                throw new QueryException("match_against requires at least one column and the search terms");
+            }
+
+            final var columns = args.subList(0, args.size() - 1).stream()
+                    .map(String::valueOf)
+                    .toList();
+
+            return "match (%s) against (%s in boolean mode)".formatted(
+                    String.join(", ", columns),
+                    args.get(args.size() - 1)
+            );
+        }
+    }
+}
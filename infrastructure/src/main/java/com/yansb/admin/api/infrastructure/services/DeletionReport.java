@@ -0,0 +1,29 @@
+package com.yansb.admin.api.infrastructure.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public record DeletionReport(
+        long deleted,
+        long missing,
+        List<String> failed
+) {
+    public static DeletionReport empty() {
+        return new DeletionReport(0, 0, List.of());
+    }
+
+    public static DeletionReport failed(final Collection<String> names) {
+        return new DeletionReport(0, 0, List.copyOf(names));
+    }
+
+    public DeletionReport merge(final DeletionReport other) {
+        final var failures = new ArrayList<>(this.failed);
+        failures.addAll(other.failed);
+        return new DeletionReport(this.deleted + other.deleted, this.missing + other.missing, failures);
+    }
+
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
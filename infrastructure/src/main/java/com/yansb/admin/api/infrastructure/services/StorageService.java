@@ -5,13 +5,16 @@ import com.yansb.admin.api.domain.video.Resource;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StorageService {
-    void deleteAll(Collection<String> names);
+    DeletionReport deleteAll(Collection<String> names);
 
     Optional<Resource> get(String name);
 
     List<String> list(String prefix);
 
-    void store(String name, Resource resource);
+    Stream<List<String>> list(String prefix, int pageSize);
+
+    String store(String name, Resource resource);
 }
@@ -0,0 +1,199 @@
+package com.yansb.admin.api.infrastructure.services.impl;
+
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
+import com.yansb.admin.api.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class BatchingRabbitEventService implements EventService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingRabbitEventService.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String exchange;
+    private final String routingKey;
+    private final RabbitOperations ops;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long confirmTimeoutMillis;
+    private final int maxRetries;
+    private final BlockingQueue<PendingEvent> buffer;
+    private final Semaphore inFlight;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public BatchingRabbitEventService(
+            final String exchange,
+            final String routingKey,
+            final RabbitOperations ops,
+            final PublisherProperties props
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.ops = Objects.requireNonNull(ops);
+        if (props.getBatchSize() > props.getMaxInFlight()) {
+            throw new IllegalStateException("amqp.publisher.batch-size must not be greater than amqp.publisher.max-in-flight");
+        }
+        this.inFlight = new Semaphore(Math.max(props.getMaxInFlight(), 1));
+        this.batchSize = Math.max(props.getBatchSize(), 1);
+        this.lingerNanos = props.getLinger().toNanos();
+        this.confirmTimeoutMillis = props.getConfirmTimeout().toMillis();
+        this.maxRetries = Math.max(props.getMaxRetries(), 0);
+        this.buffer = new LinkedBlockingQueue<>(Math.max(props.getBufferSize(), this.batchSize));
+        this.running = true;
+        this.flusher = new Thread(this::run, "rabbit-publisher-" + routingKey);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void send(final Object event) {
+        sendAsync(event).whenComplete((ignored, t) -> {
+            if (t != null) {
+                log.error("[event:publish] [exchange:{}] [routingKey:{}] [status:lost]", exchange, routingKey, t);
+            }
+        });
+    }
+
+    public CompletableFuture<Void> sendAsync(final Object event) {
+        final var pending = new PendingEvent(Json.writeValueAsString(event), new CompletableFuture<>(), 0);
+        if (!this.running) {
+            pending.result().completeExceptionally(new AmqpException("Publisher is shutting down"));
+            return pending.result();
+        }
+
+        try {
+            this.buffer.put(pending);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result().completeExceptionally(e);
+        }
+        return pending.result();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        this.running = false;
+        this.flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        final var batch = new ArrayList<PendingEvent>(this.batchSize);
+        while (this.running || !this.buffer.isEmpty()) {
+            try {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    publish(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("[event:publish] [batch:{}] [status:interrupted]", batch.size());
+                batch.forEach(it -> it.result().completeExceptionally(e));
+                break;
+            } catch (final RuntimeException e) {
+                log.error("[event:publish] [batch:{}] [status:flush-failed]", batch.size(), e);
+                batch.forEach(it -> it.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        final var abandoned = new ArrayList<PendingEvent>();
+        this.buffer.drainTo(abandoned);
+        abandoned.forEach(it -> it.result().completeExceptionally(new AmqpException("Publisher was stopped")));
+    }
+
+    private void collect(final List<PendingEvent> batch) throws InterruptedException {
+        final var first = this.buffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final var deadline = System.nanoTime() + this.lingerNanos;
+        while (batch.size() < this.batchSize) {
+            this.buffer.drainTo(batch, this.batchSize - batch.size());
+            final var remaining = deadline - System.nanoTime();
+            if (batch.size() >= this.batchSize || remaining <= 0) {
+                return;
+            }
+
+            final var next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void publish(final List<PendingEvent> batch) throws InterruptedException {
+        this.inFlight.acquire(batch.size());
+
+        final var confirms = new ArrayList<CorrelationData>(batch.size());
+        try {
+            this.ops.invoke(operations -> {
+                for (final var it : batch) {
+                    final var correlation = new CorrelationData();
+                    operations.convertAndSend(this.exchange, this.routingKey, it.payload(), correlation);
+                    confirms.add(correlation);
+                }
+                return null;
+            });
+        } catch (final RuntimeException e) {
+            log.warn("[event:publish] [sent:{}] [batch:{}] [status:send-failed]", confirms.size(), batch.size(), e);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var pending = batch.get(i);
+            if (i >= confirms.size()) {
+                this.inFlight.release();
+                retry(pending, "not sent");
+                continue;
+            }
+
+            confirms.get(i).getFuture().completable()
+                    .orTimeout(this.confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .whenComplete((confirm, t) -> {
+                        this.inFlight.release();
+                        if (t == null && confirm.isAck()) {
+                            pending.result().complete(null);
+                        } else {
+                            retry(pending, t != null ? String.valueOf(t) : confirm.getReason());
+                        }
+                    });
+        }
+    }
+
+    private void retry(final PendingEvent pending, final String reason) {
+        if (pending.attempts() >= this.maxRetries) {
+            pending.result().completeExceptionally(new AmqpException(
+                    "Event was not confirmed after %s attempts: %s".formatted(pending.attempts() + 1, reason)));
+            return;
+        }
+
+        if (!this.running || !this.buffer.offer(pending.retried())) {
+            pending.result().completeExceptionally(new AmqpException(
+                    "Event could not be queued for retry: %s".formatted(reason)));
+        }
+    }
+
+    private record PendingEvent(String payload, CompletableFuture<Void> result, int attempts) {
+        PendingEvent retried() {
+            return new PendingEvent(payload, result, attempts + 1);
+        }
+    }
+}
@@ -1,33 +1,73 @@
 package com.yansb.admin.api.infrastructure.services.impl;
 
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
 import com.yansb.admin.api.domain.video.Resource;
+import com.yansb.admin.api.infrastructure.services.DeletionReport;
 import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
 
 public class GCStorageService implements StorageService {
+    private static final Logger log = LoggerFactory.getLogger(GCStorageService.class);
+    private static final int MIN_CHUNK_SIZE = 256 * 1024;
+
     private final String bucket;
     private final Storage storage;
+    private final int chunkSize;
+    private final ResumableUploadSessions sessions;
 
     public GCStorageService(String bucket, Storage storage) {
+        this(bucket, storage, MIN_CHUNK_SIZE, new ResumableUploadSessions());
+    }
+
+    public GCStorageService(
+            final String bucket,
+            final Storage storage,
+            final int chunkSize,
+            final ResumableUploadSessions sessions
+    ) {
         this.bucket = bucket;
         this.storage = storage;
+        this.chunkSize = Math.max(chunkSize, MIN_CHUNK_SIZE);
+        this.sessions = sessions;
     }
 
-
     @Override
-    public void deleteAll(Collection<String> names) {
+    public DeletionReport deleteAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return DeletionReport.empty();
+        }
+
         final var blobs = names.stream()
                 .map(name -> BlobId.of(this.bucket, name))
                 .toList();
 
-        this.storage.delete(blobs);
+        final var results = this.storage.delete(blobs);
+        final var deleted = results.stream().filter(Boolean.TRUE::equals).count();
+        return new DeletionReport(deleted, results.size() - deleted, List.of());
     }
 
     @Override
@@ -35,11 +75,12 @@ public class GCStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(blob -> Resource.with(
                         blob.getCrc32cToHexString(),
-                        blob.getContent(),
+                        () -> Channels.newInputStream(this.storage.reader(blob.getBlobId())),
+                        (offset, length) -> Channels.newInputStream(reader(blob.getBlobId(), offset, length)),
+                        blob.getSize(),
                         blob.getContentType(),
                         name
                 ));
-
     }
 
     @Override
@@ -53,12 +94,146 @@ public class GCStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String name, final Resource resource) {
+    public Stream<List<String>> list(String prefix, int pageSize) {
+        final var first = this.storage.list(
+                this.bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.pageSize(pageSize)
+        );
+
+        return Stream.iterate(first, Objects::nonNull, Page::getNextPage)
+                .map(page -> StreamSupport.stream(page.getValues().spliterator(), false)
+                        .map(BlobInfo::getBlobId)
+                        .map(BlobId::getName)
+                        .toList())
+                .filter(names -> !names.isEmpty());
+    }
+
+    @Override
+    public String store(final String name, final Resource resource) {
+        if (resource.isStreamed()) {
+            return storeStream(name, resource);
+        }
+
         final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
                 .setContentType(resource.contentType())
                 .setCrc32cFromHexString(resource.checksum())
                 .build();
 
         this.storage.create(blobInfo, resource.content());
+        return resource.checksum();
+    }
+
+    private String storeStream(final String name, final Resource resource) {
+        final var startedAt = System.nanoTime();
+        final var session = this.sessions.find(name, resource.size(), resource.checksum());
+
+        if (session.isPresent()) {
+            try {
+                final var checksum = transfer(name, resource, session.get(), startedAt);
+                if (checksum.isPresent()) {
+                    return checksum.get();
+                }
+
+                log.warn("[storage:gcs] [upload:{}] pending session does not match the content, starting over", name);
+            } catch (final RuntimeException e) {
+                log.warn("[storage:gcs] [upload:{}] pending session could not be resumed, starting over", name, e);
+            }
+            this.sessions.remove(name);
+        }
+
+        return transfer(name, resource, null, startedAt).orElseThrow();
+    }
+
+    /**
+     * Streams the resource into a new upload, or into {@code session} when it is given. Resuming re-reads
+     * the bytes already sent and gives up (empty) if they do not hash to what the session recorded, so a
+     * different payload is never spliced onto a previous one.
+     */
+    private Optional<String> transfer(
+            final String name,
+            final Resource resource,
+            final ResumableUploadSessions.Session session,
+            final long startedAt
+    ) {
+        try (
+                final var prefix = new CheckedInputStream(resource.openStream(), new CRC32C());
+                final var in = HashingUtils.checksumming(prefix)
+        ) {
+            final WriteChannel writer;
+            final long position;
+            if (session != null) {
+                ByteStreams.copy(ByteStreams.limit(in, session.position()), ByteStreams.nullOutputStream());
+                if (prefix.getChecksum().getValue() != session.prefixChecksum()) {
+                    return Optional.empty();
+                }
+                writer = session.state().restore();
+                position = session.position();
+            } else {
+                writer = this.storage.writer(blobInfo(name, resource));
+                position = 0L;
+            }
+
+            writer.setChunkSize(this.chunkSize);
+
+            final var uploaded = upload(name, resource, in, prefix.getChecksum(), writer, position);
+            writer.close();
+            this.sessions.remove(name);
+
+            logThroughput(name, uploaded, System.nanoTime() - startedAt);
+            return Optional.of(HashingUtils.checksum(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long upload(
+            final String name,
+            final Resource resource,
+            final HashingInputStream in,
+            final Checksum prefix,
+            final WriteChannel writer,
+            final long position
+    ) throws IOException {
+        final var buffer = new byte[this.chunkSize];
+        var written = position;
+        int read;
+        while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+            final var chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                writer.write(chunk);
+            }
+            written += read;
+            this.sessions.save(name, new ResumableUploadSessions.Session(
+                    resource.size(),
+                    resource.checksum(),
+                    written,
+                    prefix.getValue(),
+                    writer.capture()
+            ));
+        }
+        return written - position;
+    }
+
+    private ReadChannel reader(final BlobId blobId, final long offset, final long length) throws IOException {
+        final var reader = this.storage.reader(blobId);
+        reader.seek(offset);
+        return reader.limit(offset + length);
+    }
+
+    private BlobInfo blobInfo(final String name, final Resource resource) {
+        final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(resource.contentType());
+
+        Optional.ofNullable(resource.checksum())
+                .ifPresent(blobInfo::setCrc32cFromHexString);
+
+        return blobInfo.build();
+    }
+
+    private void logThroughput(final String name, final long bytes, final long elapsedNanos) {
+        final var elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), 1);
+        log.info("[storage:gcs] [upload:{}] [bytes:{}] [elapsed:{}ms] [throughput:{}B/s]",
+                name, bytes, elapsedMillis, bytes * 1000 / elapsedMillis);
     }
 }
@@ -0,0 +1,35 @@
+package com.yansb.admin.api.infrastructure.services.impl;
+
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.yansb.admin.api.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+public class OutboxEventService implements EventService {
+
+    private final String exchange;
+    private final String routingKey;
+    private final OutboxEventRepository outboxRepository;
+
+    public OutboxEventService(
+            final String exchange,
+            final String routingKey,
+            final OutboxEventRepository outboxRepository
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+    }
+
+    @Override
+    public void send(Object event) {
+        this.outboxRepository.save(OutboxEventJpaEntity.of(
+                event.getClass().getSimpleName(),
+                this.exchange,
+                this.routingKey,
+                Json.writeValueAsString(event)
+        ));
+    }
+}
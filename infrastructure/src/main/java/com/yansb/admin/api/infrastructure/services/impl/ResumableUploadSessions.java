@@ -0,0 +1,62 @@
+package com.yansb.admin.api.infrastructure.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Pending resumable uploads, keyed by object name. Entries expire with the GCS session URI they point to
+ * (one week) and the number of abandoned uploads kept around is bounded.
+ */
+public class ResumableUploadSessions {
+    public static final Duration GCS_SESSION_LIFETIME = Duration.ofDays(7);
+    public static final long DEFAULT_MAX_SESSIONS = 10_000;
+
+    private final Cache<String, Session> sessions;
+
+    public ResumableUploadSessions() {
+        this(GCS_SESSION_LIFETIME, DEFAULT_MAX_SESSIONS);
+    }
+
+    public ResumableUploadSessions(final Duration ttl, final long maxSessions) {
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSessions)
+                .build();
+    }
+
+    /**
+     * A session only matches an upload of the same size and the same caller-supplied checksum, if any.
+     * The bytes already sent are verified against {@link Session#prefixChecksum()} before resuming.
+     */
+    public Optional<Session> find(final String name, final long size, final String fingerprint) {
+        return Optional.ofNullable(this.sessions.getIfPresent(name))
+                .filter(it -> it.size() == size)
+                .filter(it -> Objects.equals(it.fingerprint(), fingerprint));
+    }
+
+    public void save(final String name, final Session session) {
+        this.sessions.put(name, session);
+    }
+
+    public void remove(final String name) {
+        this.sessions.invalidate(name);
+    }
+
+    public record Session(
+            long size,
+            String fingerprint,
+            long position,
+            long prefixChecksum,
+            RestorableState<WriteChannel> state
+    ) {
+        public Session {
+            Objects.requireNonNull(state);
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.yansb.admin.api.infrastructure.services.local;
 
+import com.google.common.collect.Lists;
 import com.yansb.admin.api.domain.video.Resource;
+import com.yansb.admin.api.infrastructure.services.DeletionReport;
 import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 public class InMemoryStorageService implements StorageService {
-    private final Map<String, Resource> storage;
+    private final ConcurrentSkipListMap<String, Resource> storage;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this.storage = new ConcurrentSkipListMap<>();
     }
 
     public Map<String, Resource> storage() {
@@ -22,8 +28,11 @@ public class InMemoryStorageService implements StorageService {
     }
 
     @Override
-    public void deleteAll(Collection<String> names) {
-        names.forEach(storage::remove);
+    public DeletionReport deleteAll(Collection<String> names) {
+        final var deleted = names.stream()
+                .filter(name -> storage.remove(name) != null)
+                .count();
+        return new DeletionReport(deleted, names.size() - deleted, List.of());
     }
 
     @Override
@@ -36,13 +45,29 @@ public class InMemoryStorageService implements StorageService {
         if (prefix == null) {
             return Collections.emptyList();
         }
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
+        return this.storage.tailMap(prefix).keySet().stream()
+                .takeWhile(it -> it.startsWith(prefix))
                 .toList();
     }
 
     @Override
-    public void store(String name, Resource resource) {
-        this.storage.put(name, resource);
+    public Stream<List<String>> list(String prefix, int pageSize) {
+        return Lists.partition(list(prefix), pageSize).stream();
+    }
+
+    @Override
+    public String store(String name, Resource resource) {
+        final var aResource = resource.isStreamed() ? materialize(resource) : resource;
+        this.storage.put(name, aResource);
+        return aResource.checksum();
+    }
+
+    private Resource materialize(final Resource resource) {
+        try (final var in = HashingUtils.checksumming(resource.openStream())) {
+            final var content = in.readAllBytes();
+            return Resource.with(HashingUtils.checksum(in), content, resource.contentType(), resource.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,205 @@
+package com.yansb.admin.api.infrastructure.services.local;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import com.yansb.admin.api.domain.video.Resource;
+import com.yansb.admin.api.infrastructure.services.DeletionReport;
+import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+public class LocalFileStorageService implements StorageService {
+    private static final String TEMP_PREFIX = ".upload-";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final Path data;
+    private final Path metadata;
+
+    public LocalFileStorageService(final Path root) {
+        this.data = root.resolve("data").toAbsolutePath().normalize();
+        this.metadata = root.resolve("metadata").toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.data);
+            Files.createDirectories(this.metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public DeletionReport deleteAll(Collection<String> names) {
+        return names.parallelStream()
+                .map(this::delete)
+                .reduce(DeletionReport.empty(), DeletionReport::merge);
+    }
+
+    @Override
+    public Optional<Resource> get(String name) {
+        final var file = resolve(this.data, name);
+        final var meta = resolve(this.metadata, name);
+        if (!Files.isRegularFile(file) || !Files.isRegularFile(meta)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var props = readMetadata(meta);
+            final var size = Files.size(file);
+
+            return Optional.of(Resource.with(
+                    props.getProperty(CHECKSUM),
+                    () -> open(file, 0, size),
+                    (anOffset, aLength) -> {
+                        final var from = Math.min(anOffset, size);
+                        return open(file, from, Math.min(aLength, size - from));
+                    },
+                    size,
+                    props.getProperty(CONTENT_TYPE),
+                    name
+            ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+
+        final var target = resolve(this.data, prefix);
+        final var isDirectory = prefix.isEmpty() || prefix.endsWith("/");
+        final var directory = isDirectory ? target : target.getParent();
+        final var entryPrefix = isDirectory ? "" : target.getFileName().toString();
+
+        if (directory == null || !Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        // only entries of the prefix's directory whose names start with the last segment are walked,
+        // so a flat prefix such as "videoId-123" does not scan every stored file
+        final var names = new ArrayList<String>();
+        try (final var entries = Files.newDirectoryStream(
+                directory,
+                it -> it.getFileName().toString().startsWith(entryPrefix)
+        )) {
+            for (final var entry : entries) {
+                try (final var files = Files.walk(entry)) {
+                    files.filter(Files::isRegularFile)
+                            .filter(it -> !it.getFileName().toString().startsWith(TEMP_PREFIX))
+                            .map(it -> this.data.relativize(it).toString().replace('\\', '/'))
+                            .filter(it -> it.startsWith(prefix))
+                            .forEach(names::add);
+                }
+            }
+            return names;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Stream<List<String>> list(String prefix, int pageSize) {
+        return Lists.partition(list(prefix), pageSize).stream();
+    }
+
+    @Override
+    public String store(String name, Resource resource) {
+        final var file = resolve(this.data, name);
+        final var meta = resolve(this.metadata, name);
+
+        try {
+            Files.createDirectories(file.getParent());
+            Files.createDirectories(meta.getParent());
+
+            final var tempFile = Files.createTempFile(file.getParent(), TEMP_PREFIX, ".tmp");
+            final var tempMeta = Files.createTempFile(meta.getParent(), TEMP_PREFIX, ".tmp");
+            try {
+                final var checksum = write(tempFile, resource);
+                writeMetadata(tempMeta, checksum, resource.contentType());
+
+                Files.move(tempMeta, meta, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return checksum;
+            } finally {
+                Files.deleteIfExists(tempFile);
+                Files.deleteIfExists(tempMeta);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(final Path target, final Resource resource) throws IOException {
+        try (final var in = HashingUtils.checksumming(resource.openStream());
+             final var source = Channels.newChannel(in);
+             final var channel = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            channel.force(false);
+            return HashingUtils.checksum(in);
+        }
+    }
+
+    private InputStream open(final Path file, final long offset, final long count) throws IOException {
+        final var channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(offset);
+        return ByteStreams.limit(Channels.newInputStream(channel), count);
+    }
+
+    private DeletionReport delete(final String name) {
+        try {
+            final var deleted = Files.deleteIfExists(resolve(this.data, name));
+            Files.deleteIfExists(resolve(this.metadata, name));
+            return deleted ? new DeletionReport(1, 0, List.of()) : new DeletionReport(0, 1, List.of());
+        } catch (IOException | IllegalArgumentException e) {
+            return DeletionReport.failed(List.of(name));
+        }
+    }
+
+    private Properties readMetadata(final Path meta) throws IOException {
+        final var props = new Properties();
+        try (final var in = Files.newInputStream(meta)) {
+            props.load(in);
+        }
+        return props;
+    }
+
+    private void writeMetadata(final Path meta, final String checksum, final String contentType) throws IOException {
+        final var props = new Properties();
+        props.setProperty(CHECKSUM, checksum);
+        props.setProperty(CONTENT_TYPE, contentType);
+        try (final var out = Files.newOutputStream(meta, StandardOpenOption.TRUNCATE_EXISTING)) {
+            props.store(out, null);
+        }
+    }
+
+    private Path resolve(final Path base, final String name) {
+        final var path = base.resolve(name).normalize();
+        if (!path.startsWith(base)) {
+            throw new IllegalArgumentException("Storage name %s escapes the storage root".formatted(name));
+        }
+        return path;
+    }
+}
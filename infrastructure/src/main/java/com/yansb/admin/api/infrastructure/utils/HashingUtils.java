@@ -2,10 +2,14 @@ package com.yansb.admin.api.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+
+import java.io.InputStream;
 
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final HashFunction CONTENT_HASH = Hashing.sha256();
 
     private HashingUtils() {
     }
@@ -14,5 +18,15 @@ public final class HashingUtils {
         return CHECKSUM.hashBytes(content).toString();
     }
 
+    public static HashingInputStream checksumming(final InputStream content) {
+        return new HashingInputStream(CHECKSUM, content);
+    }
 
+    public static HashingInputStream contentHashing(final InputStream content) {
+        return new HashingInputStream(CONTENT_HASH, content);
+    }
+
+    public static String checksum(final HashingInputStream content) {
+        return content.hash().toString();
+    }
 }
@@ -0,0 +1,123 @@
+package com.yansb.admin.api.infrastructure.utils;
+
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.persistence.KeysetRepository;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+
+    private KeysetUtils() {
+    }
+
+    public static <T> Pagination<T> findAll(
+            final KeysetRepository<T, ?> repository,
+            final Specification<T> whereClause,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final int perPage
+    ) {
+        final var order = Sort.Direction.fromString(direction);
+        final var limit = Math.max(perPage, 1);
+
+        final var rows = repository.findAll(
+                Specification.where(whereClause).and(after(decode(cursor, sort, order))),
+                Sort.by(order, sort).and(Sort.by(order, ID)),
+                limit + 1
+        );
+
+        if (rows.size() <= limit) {
+            return Pagination.cursor(perPage, rows, null);
+        }
+
+        final var items = List.copyOf(rows.subList(0, limit));
+        return Pagination.cursor(perPage, items, encode(items.get(limit - 1), sort, order));
+    }
+
+    private static String encode(final Object anEntity, final String sort, final Sort.Direction order) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(anEntity);
+        final var value = accessor.getPropertyValue(sort);
+        final var aCursor = new Cursor(
+                sort,
+                order.name(),
+                value != null ? String.valueOf(value) : null,
+                String.valueOf(accessor.getPropertyValue(ID))
+        );
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(aCursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(final String cursor, final String sort, final Sort.Direction order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        final Cursor aCursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            aCursor = Json.readValue(json, Cursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+
+        if (aCursor.id() == null
+                || !Objects.equals(aCursor.sort(), sort)
+                || !Objects.equals(aCursor.direction(), order.name())) {
+            throw DomainException.with(new Error("'cursor' does not match the requested sort"));
+        }
+        return aCursor;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Specification<T> after(final Cursor aCursor) {
+        if (aCursor == null) {
+            return null;
+        }
+
+        final var ascending = Sort.Direction.ASC.name().equals(aCursor.direction());
+        return (root, query, cb) -> {
+            final Path key = root.get(aCursor.sort());
+            final Path<String> id = root.get(ID);
+            final var idAfter = ascending
+                    ? cb.greaterThan(id, aCursor.id())
+                    : cb.lessThan(id, aCursor.id());
+
+            if (aCursor.value() == null) {
+                final var tie = cb.and(cb.isNull(key), idAfter);
+                return ascending ? cb.or(cb.isNotNull(key), tie) : tie;
+            }
+
+            final Comparable value = valueOf(key.getJavaType(), aCursor.value());
+            final var tie = cb.and(cb.equal(key, value), idAfter);
+            return ascending
+                    ? cb.or(cb.greaterThan(key, value), tie)
+                    : cb.or(cb.lessThan(key, value), cb.isNull(key), tie);
+        };
+    }
+
+    private static Comparable<?> valueOf(final Class<?> type, final String value) {
+        if (Instant.class.equals(type)) {
+            return Instant.parse(value);
+        }
+        return (Comparable<?>) DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+
+    record Cursor(String sort, String direction, String value, String id) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.yansb.admin.api.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.validation.Error;
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class NdjsonUtils {
+
+    private NdjsonUtils() {
+    }
+
+    /**
+     * Lazily reads one JSON document per non blank line, so only the current line is held in memory.
+     * A line that cannot be parsed makes {@code next()} throw a {@link DomainException} and the iteration
+     * carries on with the following line.
+     */
+    public static <T, C> Iterator<C> read(final InputStream content, final Class<T> type, final Function<T, C> mapper) {
+        final var reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        return new NdjsonIterator<>(reader, Json.mapper().readerFor(type), mapper);
+    }
+
+    private static final class NdjsonIterator<T, C> implements Iterator<C> {
+
+        private final BufferedReader reader;
+        private final ObjectReader objectReader;
+        private final Function<T, C> mapper;
+        private String nextLine;
+
+        private NdjsonIterator(final BufferedReader reader, final ObjectReader objectReader, final Function<T, C> mapper) {
+            this.reader = reader;
+            this.objectReader = objectReader;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.nextLine == null) {
+                final var line = readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    this.nextLine = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public C next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final var line = this.nextLine;
+            this.nextLine = null;
+
+            try {
+                final T value = this.objectReader.readValue(line);
+                return this.mapper.apply(value);
+            } catch (final JsonProcessingException e) {
+                throw DomainException.with(new Error("Malformed JSON: %s".formatted(e.getOriginalMessage())));
+            }
+        }
+
+        private String readLine() {
+            try {
+                return this.reader.readLine();
+            } catch (final IOException e) {
+                throw InternalErrorException.with("An error on reading the NDJSON content was observed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.yansb.admin.api.infrastructure.utils;
+
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
+import com.yansb.admin.api.domain.pagination.SearchQuery;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
+import com.yansb.admin.api.infrastructure.persistence.KeysetRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+public final class PaginationUtils {
+    private PaginationUtils() {
+    }
+
+    public static <T> Pagination<T> findAll(
+            final KeysetRepository<T, ?> repository,
+            final Specification<T> whereClause,
+            final SearchQuery aQuery,
+            final CountCache counts,
+            final Class<?> type
+    ) {
+        return findAll(repository, whereClause, aQuery, counts, type, signature(aQuery.searchMode(), aQuery.terms()));
+    }
+
+    public static <T> Pagination<T> findAll(
+            final KeysetRepository<T, ?> repository,
+            final Specification<T> whereClause,
+            final SearchQuery aQuery,
+            final CountCache counts,
+            final Class<?> type,
+            final String signature
+    ) {
+        final var result = aQuery.isCursorMode()
+                ? KeysetUtils.findAll(
+                        repository,
+                        whereClause,
+                        aQuery.sort(),
+                        aQuery.direction(),
+                        aQuery.cursor(),
+                        aQuery.perPage()
+                )
+                : findPage(repository, whereClause, aQuery);
+
+        return withTotal(
+                result,
+                aQuery.countMode(),
+                counts,
+                type,
+                signature,
+                () -> repository.count(whereClause)
+        );
+    }
+
+    public static <T> Pagination<T> withTotal(
+            final Pagination<T> result,
+            final CountMode countMode,
+            final CountCache counts,
+            final Class<?> type,
+            final String signature,
+            final LongSupplier count
+    ) {
+        return switch (countMode) {
+            case EXACT -> result.total() == Pagination.UNKNOWN_TOTAL ? result.withTotal(count.getAsLong()) : result;
+            case ESTIMATED -> result.withTotal(counts.get(type, signature, count));
+            case NONE -> result;
+        };
+    }
+
+    public static String signature(final SearchMode searchMode, final String terms) {
+        return terms == null || terms.isBlank() ? "" : searchMode + ":" + terms.trim().toUpperCase();
+    }
+
+    private static <T> Pagination<T> findPage(
+            final KeysetRepository<T, ?> repository,
+            final Specification<T> whereClause,
+            final SearchQuery aQuery
+    ) {
+        final var sort = aQuery.isFullTextSearch()
+                ? Sort.unsorted()
+                : Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort());
+
+        if (aQuery.countMode() == CountMode.EXACT) {
+            final var pageResult = repository.findAll(
+                    Specification.where(whereClause),
+                    PageRequest.of(aQuery.page(), aQuery.perPage(), sort)
+            );
+
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    pageResult.toList()
+            );
+        }
+
+        final var limit = Math.max(aQuery.perPage(), 1);
+        final var rows = repository.findAll(whereClause, sort, aQuery.page() * limit, limit + 1);
+        final var hasNext = rows.size() > limit;
+        final List<T> items = hasNext ? List.copyOf(rows.subList(0, limit)) : rows;
+
+        return Pagination.slice(aQuery.page(), aQuery.perPage(), items, hasNext);
+    }
+}
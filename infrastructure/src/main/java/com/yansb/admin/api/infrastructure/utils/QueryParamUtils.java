@@ -0,0 +1,32 @@
+package com.yansb.admin.api.infrastructure.utils;
+
+import com.yansb.admin.api.domain.exceptions.NotificationException;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.SearchMode;
+import com.yansb.admin.api.domain.validation.Error;
+
+/**
+ * Parses the optional list query parameters: an absent value falls back to the query default, anything that is
+ * not a known mode is rejected.
+ */
+public final class QueryParamUtils {
+
+    private QueryParamUtils() {
+    }
+
+    public static CountMode countMode(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return CountMode.of(value)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for CountMode".formatted(value))));
+    }
+
+    public static SearchMode searchMode(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return SearchMode.of(value)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for SearchMode".formatted(value))));
+    }
+}
@@ -1,7 +1,12 @@
 package com.yansb.admin.api.infrastructure.utils;
 
+import com.yansb.admin.api.infrastructure.persistence.MySQLFullTextDialect;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 public final class SpecificationUtils {
   private SpecificationUtils() {
   }
@@ -10,4 +15,25 @@ public final class SpecificationUtils {
     return (root, query, cb) ->
         cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
   }
+
+  /**
+   * Boolean mode full-text match with prefix terms, ordered by relevance unless the query is sorted explicitly.
+   */
+  public static <T> Specification<T> match(final String terms, final String... props) {
+    final var against = SqlUtils.fullText(terms);
+    if (against == null) {
+      return null;
+    }
+
+    return (root, query, cb) -> {
+      final var args = Stream.<Expression<?>>concat(
+          Arrays.stream(props).map(root::get),
+          Stream.of(cb.literal(against))
+      ).toArray(Expression[]::new);
+
+      final var relevance = cb.function(MySQLFullTextDialect.MATCH_AGAINST, Double.class, args);
+      query.orderBy(cb.desc(relevance), cb.asc(root.get("id")));
+      return cb.greaterThan(relevance, 0.0);
+    };
+  }
 }
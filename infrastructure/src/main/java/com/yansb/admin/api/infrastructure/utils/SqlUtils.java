@@ -1,6 +1,10 @@
 package com.yansb.admin.api.infrastructure.utils;
 
+import java.util.Arrays;
+
 public final class SqlUtils {
+    private static final String FULL_TEXT_OPERATORS = "[+\\-<>()~*\"@]";
+
     private SqlUtils() {
     }
 
@@ -14,4 +18,15 @@ public final class SqlUtils {
         return "%" + terms + "%";
     }
 
+    public static String fullText(String terms) {
+        if (terms == null) return null;
+
+        final var words = Arrays.stream(terms.replaceAll(FULL_TEXT_OPERATORS, " ").trim().split("\\s+"))
+                .filter(word -> !word.isBlank())
+                .map(word -> "+" + word + "*")
+                .toList();
+
+        return words.isEmpty() ? null : String.join(" ", words);
+    }
+
 }
@@ -0,0 +1,163 @@
+package com.yansb.admin.api.infrastructure.video;
+
+import com.google.common.io.ByteStreams;
+import com.yansb.admin.api.domain.video.*;
+import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaBlobJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaBlobRepository;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaReferenceID;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaReferenceJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaReferenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.content-addressed", havingValue = "true")
+public class ContentAddressedMediaResourceGateway implements MediaResourceGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedMediaResourceGateway.class);
+    private static final String CONTENT_PREFIX = "blobs/sha256-";
+
+    private final StorageService storageService;
+    private final MediaBlobRepository blobRepository;
+    private final MediaReferenceRepository referenceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContentAddressedMediaResourceGateway(
+            final StorageService storageService,
+            final MediaBlobRepository blobRepository,
+            final MediaReferenceRepository referenceRepository,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+        this.referenceRepository = Objects.requireNonNull(referenceRepository);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
+        final var aResource = videoResource.resource();
+        final var aBlob = store(anId, videoResource.type(), aResource);
+        return AudioVideoMedia.with(aBlob.getChecksum(), aResource.name(), aBlob.getContentKey());
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
+        final var aResource = videoResource.resource();
+        final var aBlob = store(anId, videoResource.type(), aResource);
+        return ImageMedia.with(aBlob.getChecksum(), aResource.name(), aBlob.getContentKey());
+    }
+
+    @Override
+    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
+        return contentKeyOf(anId, type)
+                .flatMap(this.storageService::get);
+    }
+
+    @Override
+    public void clearResources(final VideoID anId) {
+        final var released = this.transactionTemplate.execute(status -> {
+            final var references = this.referenceRepository.findAllByIdVideoId(anId.getValue());
+            this.referenceRepository.deleteAll(references);
+            references.forEach(it -> this.blobRepository.release(it.getContentKey()));
+            return references.stream().map(MediaReferenceJpaEntity::getContentKey).toList();
+        });
+
+        released.forEach(this::purge);
+    }
+
+    /**
+     * Swaps the reference and releases the one it replaced in a single transaction, so the previous blob is only
+     * released once nothing points at it anymore. If the swap fails, the blob retained for it is released again.
+     */
+    private MediaBlobJpaEntity store(final VideoID anId, final VideoMediaType type, final Resource aResource) {
+        final var aBlob = retain(contentKeyOf(aResource), aResource);
+        final var referenceId = MediaReferenceID.from(anId.getValue(), type.name());
+
+        final Optional<String> previous;
+        try {
+            previous = this.transactionTemplate.execute(status -> {
+                final var replaced = this.referenceRepository.findById(referenceId)
+                        .map(MediaReferenceJpaEntity::getContentKey);
+
+                this.referenceRepository.saveAndFlush(MediaReferenceJpaEntity.with(referenceId, aBlob.getContentKey()));
+                replaced.ifPresent(this.blobRepository::release);
+                return replaced;
+            });
+        } catch (final RuntimeException e) {
+            this.blobRepository.release(aBlob.getContentKey());
+            purge(aBlob.getContentKey());
+            throw e;
+        }
+
+        previous.ifPresent(this::purge);
+        return aBlob;
+    }
+
+    private MediaBlobJpaEntity retain(final String contentKey, final Resource aResource) {
+        if (this.blobRepository.retain(contentKey) > 0) {
+            log.info("[media:dedup] [key:{}] [bytes:{}] [status:hit]", contentKey, aResource.size());
+            return this.blobRepository.findById(contentKey).orElseThrow();
+        }
+
+        final var checksum = this.storageService.store(contentKey, aResource);
+        try {
+            return this.blobRepository.saveAndFlush(
+                    MediaBlobJpaEntity.referenced(contentKey, checksum, aResource.size()));
+        } catch (final DataIntegrityViolationException e) {
+            this.blobRepository.retain(contentKey);
+            return this.blobRepository.findById(contentKey).orElseThrow();
+        }
+    }
+
+    /**
+     * Runs after the references were committed, in a transaction of its own that touches only this blob row.
+     * The row stays locked until the stored content is deleted, so a concurrent upload of the same content
+     * blocks on its {@code retain}, then finds no row and stores the content again, instead of having its
+     * freshly stored bytes removed. A failed delete leaves the row unreferenced, and the next upload of the
+     * same content picks it up again.
+     */
+    private void purge(final String contentKey) {
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                if (this.blobRepository.lockById(contentKey).isEmpty()) {
+                    return;
+                }
+
+                if (this.blobRepository.deleteIfUnreferenced(contentKey) > 0) {
+                    this.storageService.deleteAll(List.of(contentKey));
+                    log.info("[media:dedup] [key:{}] [status:deleted]", contentKey);
+                }
+            });
+        } catch (final RuntimeException e) {
+            log.warn("[media:dedup] [key:{}] [status:purge-failed] {}", contentKey, e.getMessage());
+        }
+    }
+
+    private Optional<String> contentKeyOf(final VideoID anId, final VideoMediaType type) {
+        return this.referenceRepository.findById(MediaReferenceID.from(anId.getValue(), type.name()))
+                .map(MediaReferenceJpaEntity::getContentKey);
+    }
+
+    private String contentKeyOf(final Resource aResource) {
+        try (final var in = HashingUtils.contentHashing(aResource.openStream())) {
+            final var size = ByteStreams.exhaust(in);
+            return "%s%s-%d".formatted(CONTENT_PREFIX, HashingUtils.checksum(in), size);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
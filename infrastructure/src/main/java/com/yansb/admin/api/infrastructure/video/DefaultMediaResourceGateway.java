@@ -1,31 +1,58 @@
 package com.yansb.admin.api.infrastructure.video;
 
+import com.google.common.collect.Lists;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
 import com.yansb.admin.api.domain.video.*;
 import com.yansb.admin.api.infrastructure.configuration.properties.storage.StorageProperties;
+import com.yansb.admin.api.infrastructure.services.DeletionReport;
 import com.yansb.admin.api.infrastructure.services.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.content-addressed", havingValue = "false", matchIfMissing = true)
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultMediaResourceGateway.class);
+
     private final String fileNamePattern;
     private final String locationPattern;
+    private final int listPageSize;
+    private final int deleteBatchSize;
     private final StorageService storageService;
+    private final ExecutorService deleteExecutor;
 
     public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
         this.fileNamePattern = props.getFileNamePattern();
         this.locationPattern = props.getLocationPattern();
+        this.listPageSize = Math.max(props.getListPageSize(), 1);
+        this.deleteBatchSize = Math.max(props.getDeleteBatchSize(), 1);
         this.storageService = storageService;
+        this.deleteExecutor = deleteExecutor(props.getDeleteConcurrency());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.deleteExecutor.shutdown();
     }
 
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
         final var filePath = filePath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filePath, aResource);
-        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filePath);
+        final var checksum = store(filePath, aResource);
+        return AudioVideoMedia.with(checksum, aResource.name(), filePath);
     }
 
 
@@ -33,8 +60,8 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
         final var filePath = filePath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filePath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filePath);
+        final var checksum = store(filePath, aResource);
+        return ImageMedia.with(checksum, aResource.name(), filePath);
     }
 
     @Override
@@ -44,12 +71,57 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     @Override
     public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+        final var startedAt = System.nanoTime();
+        final DeletionReport report;
+        try (final var pages = this.storageService.list(folder(anId), this.listPageSize)) {
+            report = pages.map(this::deletePage)
+                    .reduce(DeletionReport.empty(), DeletionReport::merge);
+        }
+
+        log.info("[media:clear] [videoId:{}] [deleted:{}] [missing:{}] [failed:{}] [elapsed:{}ms]",
+                anId.getValue(), report.deleted(), report.missing(), report.failed().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        if (report.hasFailures()) {
+            throw InternalErrorException.with("Failed to delete %s resources [videoId:%s] [deleted:%s]"
+                    .formatted(report.failed().size(), anId.getValue(), report.deleted()), null);
+        }
+    }
+
+    private DeletionReport deletePage(final List<String> names) {
+        final var batches = Lists.partition(names, this.deleteBatchSize).stream()
+                .map(this::deleteBatch)
+                .toList();
+
+        return batches.stream()
+                .map(CompletableFuture::join)
+                .reduce(DeletionReport.empty(), DeletionReport::merge);
+    }
+
+    private CompletableFuture<DeletionReport> deleteBatch(final List<String> names) {
+        return CompletableFuture
+                .supplyAsync(() -> this.storageService.deleteAll(names), this.deleteExecutor)
+                .exceptionally(t -> {
+                    log.warn("[media:clear] [batch:{}] [status:failed]", names.size(), t);
+                    return DeletionReport.failed(names);
+                });
+    }
+
+    private String store(String filePath, Resource aResource) {
+        final var startedAt = System.nanoTime();
+        final var checksum = this.storageService.store(filePath, aResource);
+        log.info("[media:store] [path:{}] [bytes:{}] [elapsed:{}ms]",
+                filePath, aResource.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return checksum;
     }
 
-    private void store(String filePath, Resource aResource) {
-        this.storageService.store(filePath, aResource);
+    private static ExecutorService deleteExecutor(final int concurrency) {
+        final var threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(concurrency, 1), task -> {
+            final var thread = new Thread(task, "media-delete-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private String filename(final VideoMediaType aType) {
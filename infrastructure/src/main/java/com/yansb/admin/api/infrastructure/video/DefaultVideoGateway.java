@@ -1,20 +1,38 @@
 package com.yansb.admin.api.infrastructure.video;
 
 import com.yansb.admin.api.domain.Identifier;
+import com.yansb.admin.api.domain.pagination.CountMode;
 import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
+import com.yansb.admin.api.domain.pagination.SearchQuery;
+import com.yansb.admin.api.domain.utils.InstantUtils;
 import com.yansb.admin.api.domain.video.*;
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.yansb.admin.api.infrastructure.persistence.CountCache;
 import com.yansb.admin.api.infrastructure.services.EventService;
+import com.yansb.admin.api.infrastructure.utils.PaginationUtils;
+import com.yansb.admin.api.infrastructure.utils.SpecificationUtils;
 import com.yansb.admin.api.infrastructure.utils.SqlUtils;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.yansb.admin.api.infrastructure.video.persistence.VideoJpaEntity;
 import com.yansb.admin.api.infrastructure.video.persistence.VideoRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.criteria.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static com.yansb.admin.api.domain.utils.CollectionUtils.mapTo;
 import static com.yansb.admin.api.domain.utils.CollectionUtils.nullIfEmpty;
@@ -22,12 +40,23 @@ import static com.yansb.admin.api.domain.utils.CollectionUtils.nullIfEmpty;
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final int PERSIST_FLUSH_SIZE = 500;
+
     private final VideoRepository videoRepository;
+    private final MediaCleanupTaskRepository cleanupTaskRepository;
     private final EventService eventService;
+    private final CountCache counts;
 
-    public DefaultVideoGateway(@VideoCreatedQueue final EventService eventService, final VideoRepository videoRepository) {
+    public DefaultVideoGateway(
+            @VideoCreatedQueue final EventService eventService,
+            final VideoRepository videoRepository,
+            final MediaCleanupTaskRepository cleanupTaskRepository,
+            final CountCache counts
+    ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.cleanupTaskRepository = Objects.requireNonNull(cleanupTaskRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.counts = Objects.requireNonNull(counts);
     }
 
     @Override
@@ -36,18 +65,71 @@ public class DefaultVideoGateway implements VideoGateway {
         return save(aVideo);
     }
 
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        if (videos == null || videos.isEmpty()) {
+            return List.of();
+        }
+
+        this.videoRepository.persistAll(videos.stream().map(VideoJpaEntity::from).toList(), PERSIST_FLUSH_SIZE);
+
+        videos.forEach(aVideo -> aVideo.publishDomainEvents(this.eventService::send));
+
+        return videos;
+    }
+
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return this.save(aVideo);
+        final var anEntity = this.videoRepository.findById(aVideo.getId().getValue());
+        if (anEntity.isEmpty()) {
+            return this.save(aVideo);
+        }
+
+        final var result = anEntity.get().update(aVideo).toAggregate();
+
+        aVideo.publishDomainEvents(this.eventService::send);
+
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID anId,
+            final String aResourceId,
+            final MediaStatus aStatus,
+            final String anEncodedPath
+    ) {
+        final var expected = Arrays.stream(MediaStatus.values())
+                .filter(aStatus::canFollow)
+                .toList();
+
+        if (expected.isEmpty()) {
+            return false;
+        }
+
+        final var updated = anEncodedPath == null
+                ? this.videoRepository.updateMediaStatus(anId.getValue(), aResourceId, aStatus, expected)
+                : this.videoRepository.updateMediaStatus(anId.getValue(), aResourceId, aStatus, anEncodedPath, expected);
+
+        if (updated == 0) {
+            return false;
+        }
+
+        this.videoRepository.touch(anId.getValue(), InstantUtils.now());
+        return true;
     }
 
     @Override
+    @Transactional
     public void deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
         if (this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
+            this.cleanupTaskRepository.save(MediaCleanupTaskJpaEntity.of(aVideoId));
         }
     }
 
@@ -58,21 +140,73 @@ public class DefaultVideoGateway implements VideoGateway {
                 .map(VideoJpaEntity::toAggregate);
     }
 
+    @Override
+    public boolean existsById(final VideoID aVideoId) {
+        return this.videoRepository.existsById(aVideoId.getValue());
+    }
+
     @Override
     public Pagination<VideoPreview> findAll(VideoSearchQuery aQuery) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(str -> SqlUtils.like(SqlUtils.upper(str)))
+                .orElse(null);
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        final var signature = String.join("|",
+                PaginationUtils.signature(aQuery.searchMode(), aQuery.terms()),
+                signature(castMembers),
+                signature(categories),
+                signature(genres)
+        );
+
+        if (aQuery.isCursorMode() || aQuery.isFullTextSearch()) {
+            return PaginationUtils.findAll(this.videoRepository, where(aQuery), asSearchQuery(aQuery), this.counts, VideoJpaEntity.class, signature)
+                    .map(it -> new VideoPreview(
+                            it.getId(),
+                            it.getTitle(),
+                            it.getDescription(),
+                            it.getCreatedAt(),
+                            it.getUpdatedAt()
+                    ));
+        }
+
+        return PaginationUtils.withTotal(
+                page(aQuery, terms, castMembers, categories, genres),
+                aQuery.countMode(),
+                this.counts,
+                VideoJpaEntity.class,
+                signature,
+                () -> this.videoRepository.count(terms, castMembers, categories, genres)
+        );
+    }
+
+    private Pagination<VideoPreview> page(
+            final VideoSearchQuery aQuery,
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
+        if (aQuery.countMode() != CountMode.EXACT) {
+            final var actualSlice = this.videoRepository.findSlice(terms, castMembers, categories, genres, page);
+            return Pagination.slice(
+                    actualSlice.getNumber(),
+                    actualSlice.getSize(),
+                    actualSlice.toList(),
+                    actualSlice.hasNext()
+            );
+        }
+
+        final var actualPage = this.videoRepository.findAll(terms, castMembers, categories, genres, page);
 
         return new Pagination<>(
                 actualPage.getNumber(),
@@ -82,6 +216,59 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    private static Specification<VideoJpaEntity> where(final VideoSearchQuery aQuery) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .<Specification<VideoJpaEntity>>map(str -> aQuery.searchMode() == SearchMode.FULL_TEXT
+                        ? SpecificationUtils.match(str, "title")
+                        : SpecificationUtils.like("title", str))
+                .orElse(null);
+
+        return Specification.where(terms)
+                .and(withAny(VideoCastMemberJpaEntity.class, "castMemberId", aQuery.castMembers()))
+                .and(withAny(VideoCategoryJpaEntity.class, "categoryId", aQuery.categories()))
+                .and(withAny(VideoGenreJpaEntity.class, "genreId", aQuery.genres()));
+    }
+
+    private static SearchQuery asSearchQuery(final VideoSearchQuery aQuery) {
+        return new SearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.terms(),
+                aQuery.sort(),
+                aQuery.direction(),
+                aQuery.cursor(),
+                aQuery.countMode(),
+                aQuery.searchMode()
+        );
+    }
+
+    private static String signature(final Set<String> ids) {
+        return ids == null ? "" : new TreeSet<>(ids).toString();
+    }
+
+    private static Specification<VideoJpaEntity> withAny(
+            final Class<?> association,
+            final String attribute,
+            final Set<? extends Identifier> ids
+    ) {
+        final var values = nullIfEmpty(mapTo(ids, Identifier::getValue));
+        if (values == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(String.class);
+            final var link = subquery.from(association);
+            final Path<String> videoId = link.get("id").get("videoId");
+            final Path<String> associationId = link.get("id").get(attribute);
+
+            subquery.select(videoId)
+                    .where(cb.equal(videoId, root.get("id")), associationId.in(values));
+            return cb.exists(subquery);
+        };
+    }
+
     private Video save(Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
                 .toAggregate();
@@ -0,0 +1,162 @@
+package com.yansb.admin.api.infrastructure.video;
+
+import com.yansb.admin.api.domain.video.MediaResourceGateway;
+import com.yansb.admin.api.domain.video.VideoID;
+import com.yansb.admin.api.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MediaCleanupWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaCleanupWorker.class);
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final MediaCleanupProperties props;
+    private final MediaCleanupTaskRepository taskRepository;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final ScheduledExecutorService poller;
+    private final ExecutorService workers;
+    private final AtomicLong queueDepth;
+    private final AtomicLong oldestTaskAge;
+    private final Counter succeeded;
+    private final Counter failed;
+
+    public MediaCleanupWorker(
+            final MediaCleanupProperties props,
+            final MediaCleanupTaskRepository taskRepository,
+            final MediaResourceGateway mediaResourceGateway,
+            final MeterRegistry meterRegistry
+    ) {
+        this.props = Objects.requireNonNull(props);
+        this.taskRepository = Objects.requireNonNull(taskRepository);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.poller = Executors.newSingleThreadScheduledExecutor(daemon("media-cleanup-poller"));
+        this.workers = Executors.newFixedThreadPool(Math.max(props.getConcurrency(), 1), daemon("media-cleanup"));
+        this.queueDepth = new AtomicLong();
+        this.oldestTaskAge = new AtomicLong();
+
+        Gauge.builder("media.cleanup.queue.depth", queueDepth, AtomicLong::get)
+                .description("Pending media cleanup tasks")
+                .register(meterRegistry);
+        Gauge.builder("media.cleanup.queue.oldest.age", oldestTaskAge, AtomicLong::get)
+                .description("Age of the oldest pending media cleanup task")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.succeeded = meterRegistry.counter("media.cleanup.tasks", "outcome", "success");
+        this.failed = meterRegistry.counter("media.cleanup.tasks", "outcome", "failure");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!this.props.isEnabled()) {
+            log.info("[media:cleanup] [status:disabled]");
+            return;
+        }
+
+        final var interval = this.props.getPollInterval().toMillis();
+        this.poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.poller.shutdownNow();
+        this.workers.shutdown();
+    }
+
+    public int drain() {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var lease = now.plus(this.props.getLease());
+
+        final var claimed = this.taskRepository.findDue(now, PageRequest.of(0, Math.max(this.props.getBatchSize(), 1)))
+                .stream()
+                .filter(task -> this.taskRepository.claim(task.getVideoId(), task.getNextAttemptAt(), lease) > 0)
+                .toList();
+
+        claimed.stream()
+                .map(task -> CompletableFuture.runAsync(() -> process(task), this.workers))
+                .toList()
+                .forEach(CompletableFuture::join);
+
+        refreshMetrics(now);
+        return claimed.size();
+    }
+
+    private void poll() {
+        try {
+            while (drain() >= this.props.getBatchSize()) {
+                log.debug("[media:cleanup] [status:draining]");
+            }
+        } catch (final Exception e) {
+            log.error("[media:cleanup] [status:poll-failed]", e);
+        }
+    }
+
+    private void process(final MediaCleanupTaskJpaEntity task) {
+        final var aVideoId = task.getVideoId();
+        try {
+            this.mediaResourceGateway.clearResources(VideoID.from(aVideoId));
+            this.taskRepository.deleteById(aVideoId);
+            this.succeeded.increment();
+            log.info("[media:cleanup] [videoId:{}] [attempts:{}] [status:done]", aVideoId, task.getAttempts() + 1);
+        } catch (final Exception e) {
+            final var attempts = task.getAttempts() + 1;
+            final var nextAttemptAt = Instant.now().plus(backoff(attempts)).truncatedTo(ChronoUnit.MICROS);
+            this.taskRepository.reschedule(aVideoId, nextAttemptAt, errorOf(e));
+            this.failed.increment();
+            log.warn("[media:cleanup] [videoId:{}] [attempts:{}] [nextAttemptAt:{}] [status:failed]",
+                    aVideoId, attempts, nextAttemptAt, e);
+        }
+    }
+
+    private Duration backoff(final int attempts) {
+        final var initial = this.props.getInitialBackoff();
+        final var max = this.props.getMaxBackoff();
+        final var exponent = Math.min(attempts - 1, 30);
+        final var delay = initial.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private void refreshMetrics(final Instant now) {
+        this.queueDepth.set(this.taskRepository.count());
+        final var oldest = this.taskRepository.findOldestCreatedAt();
+        this.oldestTaskAge.set(oldest == null ? 0 : Duration.between(oldest, now).toSeconds());
+    }
+
+    private static String errorOf(final Exception e) {
+        final var message = String.valueOf(e.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static ThreadFactory daemon(final String prefix) {
+        final var threads = new AtomicInteger();
+        return task -> {
+            final var thread = new Thread(task, prefix + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.yansb.admin.api.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.yansb.admin.api.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkCreateVideoResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
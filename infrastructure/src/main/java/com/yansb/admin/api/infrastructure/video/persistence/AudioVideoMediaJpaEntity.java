@@ -49,6 +49,23 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    public static AudioVideoMediaJpaEntity update(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setFilePath(media.rawLocation());
+        current.setEncodedPath(media.encodedLocation());
+        current.setStatus(media.status());
+        return current;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
                 getId(),
@@ -42,6 +42,21 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    public static ImageMediaJpaEntity update(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setFilePath(media.location());
+        return current;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
                 getId(),
@@ -0,0 +1,108 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+@Table(name = "videos_media_blobs")
+@Entity(name = "MediaBlob")
+public class MediaBlobJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "content_key", nullable = false)
+    private String contentKey;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    public MediaBlobJpaEntity() {
+    }
+
+    private MediaBlobJpaEntity(
+            final String contentKey,
+            final String checksum,
+            final long size,
+            final int refCount,
+            final Instant createdAt
+    ) {
+        this.contentKey = contentKey;
+        this.checksum = checksum;
+        this.size = size;
+        this.refCount = refCount;
+        this.createdAt = createdAt;
+        this.isNew = true;
+    }
+
+    public static MediaBlobJpaEntity referenced(final String contentKey, final String checksum, final long size) {
+        return new MediaBlobJpaEntity(contentKey, checksum, size, 1, Instant.now());
+    }
+
+    @Override
+    public String getId() {
+        return contentKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    public void setContentKey(String contentKey) {
+        this.contentKey = contentKey;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
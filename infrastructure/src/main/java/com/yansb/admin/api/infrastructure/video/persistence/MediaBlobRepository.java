@@ -0,0 +1,33 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.contentKey = :key")
+    Optional<MediaBlobJpaEntity> lockById(@Param("key") String contentKey);
+
+    @Transactional
+    @Modifying
+    @Query("update MediaBlob b set b.refCount = b.refCount + 1 where b.contentKey = :key")
+    int retain(@Param("key") String contentKey);
+
+    @Transactional
+    @Modifying
+    @Query("update MediaBlob b set b.refCount = b.refCount - 1 where b.contentKey = :key and b.refCount > 0")
+    int release(@Param("key") String contentKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MediaBlob b where b.contentKey = :key and b.refCount = 0")
+    int deleteIfUnreferenced(@Param("key") String contentKey);
+}
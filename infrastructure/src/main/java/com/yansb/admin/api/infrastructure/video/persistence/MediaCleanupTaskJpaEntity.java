@@ -0,0 +1,102 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Table(name = "videos_media_cleanup_tasks")
+@Entity(name = "MediaCleanupTask")
+public class MediaCleanupTaskJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 4000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    public MediaCleanupTaskJpaEntity() {
+    }
+
+    private MediaCleanupTaskJpaEntity(final String videoId, final Instant now) {
+        this.videoId = videoId;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+        this.isNew = true;
+    }
+
+    public static MediaCleanupTaskJpaEntity of(final String videoId) {
+        return new MediaCleanupTaskJpaEntity(videoId, Instant.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Override
+    public String getId() {
+        return videoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
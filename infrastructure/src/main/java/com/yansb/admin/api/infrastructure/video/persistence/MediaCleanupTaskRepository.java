@@ -0,0 +1,34 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaCleanupTaskRepository extends JpaRepository<MediaCleanupTaskJpaEntity, String> {
+
+    @Query("select t from MediaCleanupTask t where t.nextAttemptAt <= :now order by t.nextAttemptAt")
+    List<MediaCleanupTaskJpaEntity> findDue(@Param("now") Instant now, Pageable page);
+
+    @Query("select min(t.createdAt) from MediaCleanupTask t")
+    Instant findOldestCreatedAt();
+
+    @Transactional
+    @Modifying
+    @Query("update MediaCleanupTask t set t.nextAttemptAt = :lease where t.videoId = :id and t.nextAttemptAt = :expected")
+    int claim(@Param("id") String videoId, @Param("expected") Instant expected, @Param("lease") Instant lease);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MediaCleanupTask t
+            set t.attempts = t.attempts + 1, t.nextAttemptAt = :next, t.lastError = :error
+            where t.videoId = :id
+            """)
+    int reschedule(@Param("id") String videoId, @Param("next") Instant nextAttemptAt, @Param("error") String error);
+}
@@ -0,0 +1,57 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaReferenceID implements Serializable {
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    private String mediaType;
+
+    public MediaReferenceID() {
+    }
+
+    private MediaReferenceID(final String videoId, final String mediaType) {
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+    }
+
+    public static MediaReferenceID from(final String videoId, final String mediaType) {
+        return new MediaReferenceID(videoId, mediaType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaReferenceID that = (MediaReferenceID) o;
+        return Objects.equals(videoId, that.videoId) && Objects.equals(mediaType, that.mediaType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(videoId, mediaType);
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+}
@@ -0,0 +1,45 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Table(name = "videos_media_references")
+@Entity(name = "MediaReference")
+public class MediaReferenceJpaEntity {
+
+    @EmbeddedId
+    private MediaReferenceID id;
+
+    @Column(name = "content_key", nullable = false)
+    private String contentKey;
+
+    public MediaReferenceJpaEntity() {
+    }
+
+    private MediaReferenceJpaEntity(final MediaReferenceID id, final String contentKey) {
+        this.id = id;
+        this.contentKey = contentKey;
+    }
+
+    public static MediaReferenceJpaEntity with(final MediaReferenceID id, final String contentKey) {
+        return new MediaReferenceJpaEntity(id, contentKey);
+    }
+
+    public MediaReferenceID getId() {
+        return id;
+    }
+
+    public void setId(MediaReferenceID id) {
+        this.id = id;
+    }
+
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    public void setContentKey(String contentKey) {
+        this.contentKey = contentKey;
+    }
+}
@@ -0,0 +1,10 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MediaReferenceRepository extends JpaRepository<MediaReferenceJpaEntity, MediaReferenceID> {
+
+    List<MediaReferenceJpaEntity> findAllByIdVideoId(String videoId);
+}
@@ -0,0 +1,57 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaStatusReceiptID implements Serializable {
+
+    @Column(name = "resource_id", nullable = false)
+    private String resourceId;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    public MediaStatusReceiptID() {
+    }
+
+    private MediaStatusReceiptID(final String resourceId, final String status) {
+        this.resourceId = resourceId;
+        this.status = status;
+    }
+
+    public static MediaStatusReceiptID from(final String resourceId, final String status) {
+        return new MediaStatusReceiptID(resourceId, status);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaStatusReceiptID that = (MediaStatusReceiptID) o;
+        return Objects.equals(resourceId, that.resourceId) && Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resourceId, status);
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+
+    public void setResourceId(String resourceId) {
+        this.resourceId = resourceId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
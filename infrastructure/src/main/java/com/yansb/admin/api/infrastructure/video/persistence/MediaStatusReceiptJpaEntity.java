@@ -0,0 +1,62 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Table(name = "videos_media_status_receipts")
+@Entity(name = "MediaStatusReceipt")
+public class MediaStatusReceiptJpaEntity implements Persistable<MediaStatusReceiptID> {
+
+    @EmbeddedId
+    private MediaStatusReceiptID id;
+
+    @Column(name = "processed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant processedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public MediaStatusReceiptJpaEntity() {
+    }
+
+    private MediaStatusReceiptJpaEntity(final MediaStatusReceiptID id, final Instant processedAt) {
+        this.id = id;
+        this.processedAt = processedAt;
+        this.isNew = true;
+    }
+
+    public static MediaStatusReceiptJpaEntity of(final MediaStatusReceiptID id) {
+        return new MediaStatusReceiptJpaEntity(id, Instant.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public MediaStatusReceiptID getId() {
+        return id;
+    }
+
+    public void setId(MediaStatusReceiptID id) {
+        this.id = id;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+}
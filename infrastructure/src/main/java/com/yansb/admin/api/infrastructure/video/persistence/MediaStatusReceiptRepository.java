@@ -0,0 +1,6 @@
+package com.yansb.admin.api.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MediaStatusReceiptRepository extends JpaRepository<MediaStatusReceiptJpaEntity, MediaStatusReceiptID> {
+}
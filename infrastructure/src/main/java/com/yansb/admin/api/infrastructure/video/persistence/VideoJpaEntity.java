@@ -18,7 +18,23 @@ import java.util.stream.Collectors;
 
 @Table(name = "videos")
 @Entity(name = "Video")
+@NamedEntityGraph(
+        name = VideoJpaEntity.FULL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("video"),
+                @NamedAttributeNode("trailer"),
+                @NamedAttributeNode("banner"),
+                @NamedAttributeNode("thumbnail"),
+                @NamedAttributeNode("thumbnailHalf"),
+                @NamedAttributeNode("categories"),
+                @NamedAttributeNode("genres"),
+                @NamedAttributeNode("castMembers")
+        }
+)
 public class VideoJpaEntity {
+
+    public static final String FULL_GRAPH = "Video.full";
+
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -50,23 +66,23 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "trailer_id")
     private AudioVideoMediaJpaEntity trailer;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "banner_id")
     private ImageMediaJpaEntity banner;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_id")
     private ImageMediaJpaEntity thumbnail;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
 
@@ -209,6 +225,46 @@ public class VideoJpaEntity {
         this.castMembers.add(VideoCastMemberJpaEntity.from(this, anId));
     }
 
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = AudioVideoMediaJpaEntity.update(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = AudioVideoMediaJpaEntity.update(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = ImageMediaJpaEntity.update(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = ImageMediaJpaEntity.update(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = ImageMediaJpaEntity.update(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        final var categoryIds = CollectionUtils.mapTo(aVideo.getCategories(), CategoryID::getValue);
+        this.categories.removeIf(it -> !categoryIds.contains(it.getId().getCategoryId()));
+        final var currentCategories = getCategoriesID();
+        aVideo.getCategories().stream()
+                .filter(it -> !currentCategories.contains(it))
+                .forEach(this::addCategory);
+
+        final var genreIds = CollectionUtils.mapTo(aVideo.getGenres(), GenreID::getValue);
+        this.genres.removeIf(it -> !genreIds.contains(it.getId().getGenreId()));
+        final var currentGenres = getGenresID();
+        aVideo.getGenres().stream()
+                .filter(it -> !currentGenres.contains(it))
+                .forEach(this::addGenre);
+
+        final var castMemberIds = CollectionUtils.mapTo(aVideo.getCastMembers(), CastMemberID::getValue);
+        this.castMembers.removeIf(it -> !castMemberIds.contains(it.getId().getCastMemberId()));
+        final var currentCastMembers = getCastMembersID();
+        aVideo.getCastMembers().stream()
+                .filter(it -> !currentCastMembers.contains(it))
+                .forEach(this::addCastMember);
+
+        return this;
+    }
+
     public AudioVideoMediaJpaEntity getVideo() {
         return video;
     }
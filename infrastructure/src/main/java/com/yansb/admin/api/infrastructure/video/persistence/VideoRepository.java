@@ -1,36 +1,59 @@
 package com.yansb.admin.api.infrastructure.video.persistence;
 
+import com.yansb.admin.api.domain.video.MediaStatus;
 import com.yansb.admin.api.domain.video.VideoPreview;
+import com.yansb.admin.api.infrastructure.persistence.KeysetRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
-    @Query("""
-            select distinct new com.yansb.admin.api.domain.video.VideoPreview(
+public interface VideoRepository extends KeysetRepository<VideoJpaEntity, String> {
+
+    String PREVIEW = """
+            select new com.yansb.admin.api.domain.video.VideoPreview(
                 v.id,
                 v.title,
                 v.description,
                 v.createdAt,
                 v.updatedAt
             )
+            """;
+
+    String SEARCH = """
             from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
             where
                 ( :terms is null or UPPER(v.title) like :terms )
             and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+                ( :castMembers is null or exists (
+                    select members.id.videoId from VideoCastMember members
+                    where members.id.videoId = v.id and members.id.castMemberId in :castMembers
+                ) )
             and
-                ( :categories is null or categories.id.categoryId in :categories )
+                ( :categories is null or exists (
+                    select categories.id.videoId from VideoCategory categories
+                    where categories.id.videoId = v.id and categories.id.categoryId in :categories
+                ) )
             and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
+                ( :genres is null or exists (
+                    select genres.id.videoId from VideoGenre genres
+                    where genres.id.videoId = v.id and genres.id.genreId in :genres
+                ) )
+            """;
+
+    @Override
+    @EntityGraph(VideoJpaEntity.FULL_GRAPH)
+    Optional<VideoJpaEntity> findById(String id);
+
+    @Query(value = PREVIEW + SEARCH, countQuery = "select count(v.id) " + SEARCH)
     Page<VideoPreview> findAll(
             @Param("terms") String terms,
             @Param("castMembers") Set<String> castMembers,
@@ -38,4 +61,64 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
             @Param("genres") Set<String> genres,
             Pageable page
     );
+
+    @Query(PREVIEW + SEARCH)
+    Slice<VideoPreview> findSlice(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres,
+            Pageable page
+    );
+
+    @Query("select count(v.id) " + SEARCH)
+    long count(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres
+    );
+
+    @Modifying
+    @Query("""
+            update AudioMediaVideo m
+            set m.status = :status
+            where m.id = :resourceId
+            and m.status in :expected
+            and exists (
+                select v.id from Video v
+                where v.id = :videoId
+                and ( v.video.id = :resourceId or v.trailer.id = :resourceId )
+            )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("expected") Collection<MediaStatus> expected
+    );
+
+    @Modifying
+    @Query("""
+            update AudioMediaVideo m
+            set m.status = :status, m.encodedPath = :encodedPath
+            where m.id = :resourceId
+            and m.status in :expected
+            and exists (
+                select v.id from Video v
+                where v.id = :videoId
+                and ( v.video.id = :resourceId or v.trailer.id = :resourceId )
+            )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("encodedPath") String encodedPath,
+            @Param("expected") Collection<MediaStatus> expected
+    );
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") Instant updatedAt);
 }
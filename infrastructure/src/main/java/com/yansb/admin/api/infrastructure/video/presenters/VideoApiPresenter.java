@@ -1,5 +1,6 @@
 package com.yansb.admin.api.infrastructure.video.presenters;
 
+import com.yansb.admin.api.application.video.create.BulkCreateVideoOutput;
 import com.yansb.admin.api.application.video.media.upload.UploadMediaOutput;
 import com.yansb.admin.api.application.video.retrieve.get.VideoOutput;
 import com.yansb.admin.api.application.video.retrieve.list.VideoListOutput;
@@ -59,6 +60,10 @@ public interface VideoApiPresenter {
         );
     }
 
+    static BulkCreateVideoResponse present(final BulkCreateVideoOutput output) {
+        return new BulkCreateVideoResponse(output.id(), output.errors());
+    }
+
     static UpdateVideoResponse present(final UpdateVideoOutput output) {
         return new UpdateVideoResponse(output.id());
     }
@@ -0,0 +1,17 @@
+DROP INDEX idx_videos_updated_at ON videos;
+DROP INDEX idx_videos_created_at ON videos;
+DROP INDEX idx_videos_title ON videos;
+
+DROP INDEX idx_cast_members_created_at ON cast_members;
+DROP INDEX idx_cast_members_name ON cast_members;
+
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_genres_name ON genres;
+
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
+
+DROP INDEX idx_genre_category_reverse ON genres_categories;
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcs_category_video ON videos_categories;
@@ -0,0 +1,4 @@
+DROP INDEX idx_events_outbox_due ON events_outbox;
+
+ALTER TABLE events_outbox DROP COLUMN failed_at;
+ALTER TABLE events_outbox DROP COLUMN next_attempt_at;
@@ -0,0 +1 @@
+DROP TABLE videos_media_cleanup_tasks;
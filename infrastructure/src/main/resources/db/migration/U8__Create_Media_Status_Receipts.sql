@@ -0,0 +1 @@
+DROP TABLE videos_media_status_receipts;
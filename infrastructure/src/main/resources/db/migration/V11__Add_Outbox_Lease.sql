@@ -0,0 +1,4 @@
+ALTER TABLE events_outbox ADD COLUMN next_attempt_at DATETIME(6) NULL;
+ALTER TABLE events_outbox ADD COLUMN failed_at DATETIME(6) NULL;
+
+CREATE INDEX idx_events_outbox_due ON events_outbox (failed_at, next_attempt_at);
@@ -0,0 +1,19 @@
+CREATE TABLE videos_media_blobs
+(
+    content_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(255) NOT NULL,
+    content_size BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE videos_media_references
+(
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    content_key VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_vmr_video_media_type PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_vmr_content_key FOREIGN KEY (content_key) REFERENCES videos_media_blobs (content_key)
+);
+
+CREATE INDEX idx_vmr_content_key ON videos_media_references (content_key);
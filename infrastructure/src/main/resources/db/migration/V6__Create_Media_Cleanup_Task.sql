@@ -0,0 +1,10 @@
+CREATE TABLE videos_media_cleanup_tasks
+(
+    video_id CHAR(32) NOT NULL PRIMARY KEY,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(4000) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_vmct_next_attempt_at ON videos_media_cleanup_tasks (next_attempt_at);
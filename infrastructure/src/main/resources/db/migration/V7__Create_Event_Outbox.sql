@@ -0,0 +1,10 @@
+CREATE TABLE events_outbox
+(
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(255) NOT NULL,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,7 @@
+CREATE TABLE videos_media_status_receipts
+(
+    resource_id VARCHAR(64) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    processed_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_vmsr_resource_status PRIMARY KEY (resource_id, status)
+);
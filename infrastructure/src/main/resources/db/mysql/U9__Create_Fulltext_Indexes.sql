@@ -0,0 +1,4 @@
+DROP INDEX ftx_videos_title ON videos;
+DROP INDEX ftx_cast_members_name ON cast_members;
+DROP INDEX ftx_genres_name ON genres;
+DROP INDEX ftx_categories_name_description ON categories;
@@ -3,6 +3,10 @@ package com.yansb.admin.api;
 import com.yansb.admin.api.infrastructure.castMember.persistence.CastMemberRepository;
 import com.yansb.admin.api.infrastructure.category.persistence.CategoryRepository;
 import com.yansb.admin.api.infrastructure.genre.persistence.GenreRepository;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.yansb.admin.api.infrastructure.persistence.ExistenceCache;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptRepository;
 import com.yansb.admin.api.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -19,11 +23,16 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                appContext.getBean(MediaCleanupTaskRepository.class),
+                appContext.getBean(MediaStatusReceiptRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
                 appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class)
         ));
+
+        appContext.getBean(ExistenceCache.class).invalidateAll();
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
@@ -1,5 +1,6 @@
 package com.yansb.admin.api;
 
+import com.yansb.admin.api.infrastructure.configuration.PersistenceConfig;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,7 +18,8 @@ import java.lang.annotation.*;
         basePackages = "com.yansb.admin.api",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PersistenceConfig.class)
         })
 @DataJpaTest
 @ExtendWith(MySQLCleanUpExtension.class)
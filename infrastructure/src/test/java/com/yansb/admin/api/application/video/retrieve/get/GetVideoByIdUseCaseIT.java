@@ -0,0 +1,138 @@
+package com.yansb.admin.api.application.video.retrieve.get;
+
+import com.yansb.admin.api.IntegrationTest;
+import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.exceptions.NotFoundException;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoID;
+import com.yansb.admin.api.domain.video.VideoMediaType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Year;
+import java.util.Set;
+
+@IntegrationTest
+public class GetVideoByIdUseCaseIT {
+
+    @Autowired
+    private GetVideoByIdUseCase useCase;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void givenAFullVideo_whenCallsGetVideoById_shouldLoadTheAggregateInASingleQuery() {
+        //given
+        final var movies = categoryGateway.create(Fixture.Categories.movies());
+        final var tvShows = categoryGateway.create(Fixture.Categories.tvShows());
+        final var action = genreGateway.create(Fixture.Genres.action());
+        final var drama = genreGateway.create(Fixture.Genres.drama());
+        final var yan = castMemberGateway.create(Fixture.CastMembers.yan());
+        final var gabriel = castMemberGateway.create(Fixture.CastMembers.gabriel());
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.Videos.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(movies.getId(), tvShows.getId()),
+                        Set.of(action.getId(), drama.getId()),
+                        Set.of(yan.getId(), gabriel.getId())
+                )
+                .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+                .updateTrailerMedia(Fixture.Videos.audioVideo(VideoMediaType.TRAILER))
+                .updateBannerMedia(Fixture.Videos.image(VideoMediaType.BANNER))
+                .updateThumbnailMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL))
+                .updateThumbnailHalfMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL_HALF)));
+
+        statistics.clear();
+
+        //when
+        final var actualVideo = useCase.execute(aVideo.getId().getValue());
+
+        //then
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(aVideo.getId().getValue(), actualVideo.id());
+        Assertions.assertEquals(2, actualVideo.categories().size());
+        Assertions.assertEquals(2, actualVideo.genres().size());
+        Assertions.assertEquals(2, actualVideo.castMembers().size());
+        Assertions.assertEquals(aVideo.getVideo().get(), actualVideo.video());
+        Assertions.assertEquals(aVideo.getTrailer().get(), actualVideo.trailer());
+        Assertions.assertEquals(aVideo.getBanner().get(), actualVideo.banner());
+        Assertions.assertEquals(aVideo.getThumbnail().get(), actualVideo.thumbnail());
+        Assertions.assertEquals(aVideo.getThumbnailHalf().get(), actualVideo.thumbnailHalf());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetVideoById_shouldThrowNotFound() {
+        //given
+        final var anId = VideoID.unique();
+
+        //when
+        final var actualException = Assertions.assertThrows(NotFoundException.class,
+                () -> useCase.execute(anId.getValue()));
+
+        //then
+        Assertions.assertEquals("Video with ID %s was not found".formatted(anId.getValue()), actualException.getMessage());
+    }
+
+    @Test
+    public void givenAVideo_whenCallsExistsById_shouldNotLoadTheAggregate() {
+        //given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        statistics.clear();
+
+        //when
+        final var actualResult = videoGateway.existsById(aVideo.getId());
+
+        //then
+        Assertions.assertTrue(actualResult);
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
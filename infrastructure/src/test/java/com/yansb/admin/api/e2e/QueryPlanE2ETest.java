@@ -0,0 +1,198 @@
+package com.yansb.admin.api.e2e;
+
+import com.yansb.admin.api.E2ETest;
+import com.yansb.admin.api.domain.castMember.CastMember;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
+import com.yansb.admin.api.domain.castMember.CastMemberID;
+import com.yansb.admin.api.domain.castMember.CastMemberType;
+import com.yansb.admin.api.domain.category.Category;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.genre.Genre;
+import com.yansb.admin.api.domain.genre.GenreGateway;
+import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
+import com.yansb.admin.api.domain.pagination.SearchQuery;
+import com.yansb.admin.api.domain.video.Rating;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoID;
+import com.yansb.admin.api.domain.video.VideoSearchQuery;
+import com.yansb.admin.api.infrastructure.castMember.persistence.CastMemberJpaEntity;
+import com.yansb.admin.api.infrastructure.castMember.persistence.CastMemberRepository;
+import com.yansb.admin.api.infrastructure.category.persistence.CategoryJpaEntity;
+import com.yansb.admin.api.infrastructure.category.persistence.CategoryRepository;
+import com.yansb.admin.api.infrastructure.genre.persistence.GenreJpaEntity;
+import com.yansb.admin.api.infrastructure.genre.persistence.GenreRepository;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+@E2ETest
+@Testcontainers
+public class QueryPlanE2ETest {
+
+    private static final int ROWS = 500;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos")
+            .withUrlParam("serverTimezone", "UTC")
+            .withUrlParam("queryInterceptors", RecordingQueryInterceptor.class.getName());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @DynamicPropertySource
+    public static void setDataSourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+    }
+
+    @Test
+    public void givenAPopulatedCatalog_whenCallsEveryGatewayQuery_shouldNotScanFullTables() {
+        //given
+        final var categories = IntStream.range(0, ROWS)
+                .mapToObj(i -> Category.newCategory("Category %03d".formatted(i), "Description %03d".formatted(i), true))
+                .toList();
+        categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var genres = IntStream.range(0, ROWS)
+                .mapToObj(i -> Genre.newGenre("Genre %03d".formatted(i), true)
+                        .addCategories(List.of(categories.get(i).getId())))
+                .toList();
+        genreRepository.saveAll(genres.stream().map(GenreJpaEntity::from).toList());
+
+        final var members = IntStream.range(0, ROWS)
+                .mapToObj(i -> CastMember.newMember("Member %03d".formatted(i), CastMemberType.ACTOR))
+                .toList();
+        castMemberRepository.saveAll(members.stream().map(CastMemberJpaEntity::from).toList());
+
+        final var videos = IntStream.range(0, ROWS)
+                .mapToObj(i -> Video.newVideo(
+                        "Video %03d".formatted(i),
+                        "Description %03d".formatted(i),
+                        Year.of(2000 + i % 20),
+                        120.0,
+                        true,
+                        true,
+                        Rating.L,
+                        Set.of(categories.get(i).getId()),
+                        Set.of(genres.get(i).getId()),
+                        Set.of(members.get(i).getId())
+                ))
+                .toList();
+        videoRepository.saveAll(videos.stream().map(VideoJpaEntity::from).toList());
+
+        jdbcTemplate.execute("""
+                ANALYZE TABLE categories, genres, genres_categories, cast_members,
+                videos, videos_categories, videos_genres, videos_cast_members
+                """);
+
+        final var aCategoryId = categories.get(ROWS / 2).getId();
+        final var aGenreId = genres.get(ROWS / 2).getId();
+        final var aMemberId = members.get(ROWS / 2).getId();
+        final var aVideoId = videos.get(ROWS / 2).getId();
+
+        //when
+        RecordingQueryInterceptor.start();
+
+        categoryGateway.findById(aCategoryId);
+        categoryGateway.existsByIds(List.of(aCategoryId, CategoryID.from("missing")));
+        list(categoryGateway::findAll, "Category");
+
+        genreGateway.findByID(aGenreId);
+        genreGateway.existsByIds(List.of(aGenreId, GenreID.from("missing")));
+        list(genreGateway::findAll, "Genre");
+
+        castMemberGateway.findByID(aMemberId);
+        castMemberGateway.existsByIds(List.of(aMemberId, CastMemberID.from("missing")));
+        list(castMemberGateway::findAll, "Member");
+
+        videoGateway.findById(aVideoId);
+        videoGateway.existsById(VideoID.from("missing"));
+        listVideos(Set.of(), Set.of(), Set.of());
+        listVideos(Set.of(aCategoryId), Set.of(), Set.of());
+        listVideos(Set.of(), Set.of(aGenreId), Set.of());
+        listVideos(Set.of(), Set.of(), Set.of(aMemberId));
+
+        final var statements = RecordingQueryInterceptor.stop();
+
+        //then
+        Assertions.assertFalse(statements.isEmpty());
+
+        final var fullScans = statements.stream()
+                .flatMap(sql -> jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                        .filter(row -> "ALL".equals(row.get("type")))
+                        .filter(row -> !String.valueOf(row.get("table")).startsWith("<"))
+                        .map(row -> row.get("table") + " -> " + sql))
+                .toList();
+
+        Assertions.assertTrue(fullScans.isEmpty(), () -> "Full table scans:\n" + String.join("\n", fullScans));
+    }
+
+    private void list(final Function<SearchQuery, Pagination<?>> findAll, final String aWord) {
+        findAll.apply(new SearchQuery(0, 10, "", "name", "asc"));
+        findAll.apply(new SearchQuery(1, 10, "", "createdAt", "desc"));
+        findAll.apply(new SearchQuery(1, 10, "", "name", "asc", null, CountMode.NONE));
+        findAll.apply(new SearchQuery(0, 10, aWord, "name", "asc", null, CountMode.EXACT, SearchMode.FULL_TEXT));
+
+        final var firstPage = findAll.apply(new SearchQuery(0, 10, "", "name", "asc", ""));
+        findAll.apply(new SearchQuery(0, 10, "", "name", "asc", firstPage.nextCursor()));
+    }
+
+    private void listVideos(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc", categories, genres, members));
+        videoGateway.findAll(new VideoSearchQuery(1, 10, "", "createdAt", "desc", categories, genres, members, null, CountMode.NONE));
+        videoGateway.findAll(new VideoSearchQuery(0, 10, "Video", "title", "asc", categories, genres, members, null, CountMode.EXACT, SearchMode.FULL_TEXT));
+
+        final var firstPage = videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc", categories, genres, members, ""));
+        videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc", categories, genres, members, firstPage.nextCursor()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.yansb.admin.api.e2e;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+public class RecordingQueryInterceptor implements QueryInterceptor {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static volatile Thread recording;
+
+    public static void start() {
+        STATEMENTS.clear();
+        recording = Thread.currentThread();
+    }
+
+    public static List<String> stop() {
+        recording = null;
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public QueryInterceptor init(final MysqlConnection conn, final Properties props, final Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(final Supplier<String> sql, final Query interceptedQuery) {
+        if (recording == Thread.currentThread()) {
+            final var statement = sql.get().trim();
+            if (statement.regionMatches(true, 0, "select", 0, 6)) {
+                STATEMENTS.add(statement);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(
+            final Supplier<String> sql,
+            final Query interceptedQuery,
+            final T originalResultSet,
+            final ServerSession serverSession
+    ) {
+        return null;
+    }
+}
@@ -0,0 +1,181 @@
+package com.yansb.admin.api.e2e;
+
+import com.yansb.admin.api.E2ETest;
+import com.yansb.admin.api.domain.category.CategoryGateway;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.Pagination;
+import com.yansb.admin.api.domain.pagination.SearchMode;
+import com.yansb.admin.api.domain.pagination.SearchQuery;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Times LIKE against FULLTEXT searches through the gateways on a seeded MySQL catalog. It is excluded from
+ * {@code e2eTests} and runs with {@code ./gradlew :infrastructure:benchmarkTests}; the catalog size and the
+ * number of measured runs come from the {@code benchmark.rows} and {@code benchmark.iterations} system properties.
+ */
+@E2ETest
+@Testcontainers
+@Tag("benchmark")
+public class SearchModeBenchmarkE2ETest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+    private static final int WARM_UP = 10;
+    private static final int BATCH_SIZE = 1_000;
+
+    // A word per selectivity: in roughly 1/2, 1/16 and 1/1024 of the rows
+    private static final List<String> TERMS = List.of("drama", "western", "noir");
+
+    private static final List<String> FILLER = List.of(
+            "adventure", "comedy", "family", "history", "music", "mystery", "romance", "science",
+            "fiction", "thriller", "war", "sport", "animation", "fantasy", "crime", "documentary"
+    );
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos")
+            .withUrlParam("serverTimezone", "UTC")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @DynamicPropertySource
+    public static void setDataSourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+    }
+
+    @Test
+    public void givenASeededCatalog_whenSearchingByLikeAndFullText_shouldReportTheirLatencies() {
+        //given
+        seed("""
+                INSERT INTO categories (id, name, description, active, created_at, updated_at)
+                VALUES (?, ?, ?, true, ?, ?)
+                """);
+        seed("""
+                INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+                VALUES (?, ?, ?, 2000, false, false, 'L', 120.0, ?, ?)
+                """);
+
+        jdbcTemplate.execute("ANALYZE TABLE categories, videos");
+
+        final var results = new ArrayList<String>();
+        results.add("rows=%d iterations=%d".formatted(ROWS, ITERATIONS));
+        results.add("%-10s %-8s %-10s %-6s %10s %10s %10s".formatted("aggregate", "term", "mode", "count", "matches", "p50 (ms)", "p95 (ms)"));
+
+        //when
+        for (final var term : TERMS) {
+            for (final var countMode : List.of(CountMode.EXACT, CountMode.NONE)) {
+                for (final var searchMode : SearchMode.values()) {
+                    results.add(measure("category", term, searchMode, countMode, it -> categoryGateway.findAll(
+                            new SearchQuery(0, 10, term, "name", "asc", null, it, searchMode)
+                    )));
+                    results.add(measure("video", term, searchMode, countMode, it -> videoGateway.findAll(
+                            new VideoSearchQuery(0, 10, term, "title", "asc", Set.of(), Set.of(), Set.of(), null, it, searchMode)
+                    )));
+                }
+            }
+        }
+
+        //then
+        System.out.println(String.join(System.lineSeparator(), results));
+    }
+
+    private String measure(
+            final String aggregate,
+            final String term,
+            final SearchMode searchMode,
+            final CountMode countMode,
+            final Function<CountMode, Pagination<?>> search
+    ) {
+        IntStream.range(0, WARM_UP).forEach(i -> search.apply(countMode));
+
+        final var samples = new long[ITERATIONS];
+        Pagination<?> last = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            last = search.apply(countMode);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Assertions.assertFalse(last.items().isEmpty(), () -> "%s %s found nothing for %s".formatted(aggregate, searchMode, term));
+
+        Arrays.sort(samples);
+        return "%-10s %-8s %-10s %-6s %10d %10.2f %10.2f".formatted(
+                aggregate,
+                term,
+                searchMode,
+                countMode,
+                last.total(),
+                percentile(samples, 0.50),
+                percentile(samples, 0.95)
+        );
+    }
+
+    private void seed(final String insert) {
+        final var random = new Random(42);
+        final var now = Timestamp.from(Instant.now());
+
+        for (int offset = 0; offset < ROWS; offset += BATCH_SIZE) {
+            final var rows = new ArrayList<Object[]>(BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + BATCH_SIZE, ROWS); i++) {
+                final var title = title(random, i);
+                rows.add(new Object[]{UUID.randomUUID().toString().replace("-", ""), title, title + " description", now, now});
+            }
+            jdbcTemplate.batchUpdate(insert, rows);
+        }
+    }
+
+    private static String title(final Random random, final int index) {
+        final var words = new ArrayList<String>();
+        words.add(FILLER.get(random.nextInt(FILLER.size())));
+        words.add(FILLER.get(random.nextInt(FILLER.size())));
+        if (index % 2 == 0) {
+            words.add(TERMS.get(0));
+        }
+        if (index % 16 == 1) {
+            words.add(TERMS.get(1));
+        }
+        if (index % 1024 == 3) {
+            words.add(TERMS.get(2));
+        }
+        words.add("%06d".formatted(index));
+        return String.join(" ", words);
+    }
+
+    private static double percentile(final long[] sortedNanos, final double percentile) {
+        final var index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.yansb.admin.api.e2e;
+
+import com.yansb.admin.api.E2ETest;
+import com.yansb.admin.api.domain.video.Rating;
+import com.yansb.admin.api.domain.video.Video;
+import com.yansb.admin.api.domain.video.VideoGateway;
+import com.yansb.admin.api.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Times creating a batch of videos one by one against {@link VideoGateway#createAll(List)} on MySQL. Runs with
+ * {@code ./gradlew :infrastructure:benchmarkTests}; the batch size and number of rounds come from the
+ * {@code benchmark.batch} and {@code benchmark.rounds} system properties.
+ */
+@E2ETest
+@Testcontainers
+@Tag("benchmark")
+public class VideoBulkCreateBenchmarkE2ETest {
+
+    private static final int BATCH = Integer.getInteger("benchmark.batch", 1_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos")
+            .withUrlParam("serverTimezone", "UTC");
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @DynamicPropertySource
+    public static void setDataSourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+    }
+
+    @Test
+    public void givenABatchOfVideos_whenCreatingOneByOneAndInBulk_shouldReportTheirThroughput() {
+        //given
+        final var results = new ArrayList<String>();
+        results.add("batch=%d rounds=%d".formatted(BATCH, ROUNDS));
+        results.add("%-12s %12s %12s".formatted("mode", "best (ms)", "rows/s"));
+
+        // warm up both paths so the first measured round does not pay for class loading and connection setup
+        measure(videos -> videos.forEach(videoGateway::create));
+        measure(videoGateway::createAll);
+
+        //when
+        results.add(report("one-by-one", IntStream.range(0, ROUNDS)
+                .mapToLong(i -> measure(videos -> videos.forEach(videoGateway::create)))
+                .min()
+                .orElseThrow()));
+
+        results.add(report("bulk", IntStream.range(0, ROUNDS)
+                .mapToLong(i -> measure(videoGateway::createAll))
+                .min()
+                .orElseThrow()));
+
+        //then
+        Assertions.assertEquals((long) BATCH * (ROUNDS + 1) * 2, videoRepository.count());
+        System.out.println(String.join(System.lineSeparator(), results));
+    }
+
+    private long measure(final Consumer<List<Video>> create) {
+        final var videos = IntStream.range(0, BATCH)
+                .mapToObj(i -> Video.newVideo(
+                        "Video %06d".formatted(i),
+                        "Description %06d".formatted(i),
+                        Year.of(2000 + i % 20),
+                        120.0,
+                        true,
+                        true,
+                        Rating.L,
+                        Set.of(),
+                        Set.of(),
+                        Set.of()
+                ))
+                .toList();
+
+        final var start = System.nanoTime();
+        create.accept(videos);
+        return System.nanoTime() - start;
+    }
+
+    private static String report(final String mode, final long bestNanos) {
+        return "%-12s %12.1f %12.0f".formatted(mode, bestNanos / 1_000_000.0, BATCH / (bestNanos / 1_000_000_000.0));
+    }
+}
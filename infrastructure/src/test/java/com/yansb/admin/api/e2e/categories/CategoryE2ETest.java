@@ -130,6 +130,31 @@ public class CategoryE2ETest implements MockDsl {
                 .andExpect(jsonPath("$.items[0].name", Matchers.equalTo("movies")));
     }
 
+    @Test
+    public void asACatalogAdminIShouldBeAbleToFullTextSearchCategoriesByRelevance() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        givenACategory("shows", "Series and movie spin-offs", true);
+        givenACategory("movies", "Movie premieres and classic movies", true);
+        givenACategory("documentaries", "least watched category", true);
+
+        final var aRequest = get("/categories")
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("page", "0")
+                .queryParam("perPage", "10")
+                .queryParam("search", "mov")
+                .queryParam("searchMode", "full_text")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", Matchers.equalTo(2)))
+                .andExpect(jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", Matchers.equalTo("movies")))
+                .andExpect(jsonPath("$.items[1].name", Matchers.equalTo("shows")));
+    }
+
     @Test
     public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescription() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
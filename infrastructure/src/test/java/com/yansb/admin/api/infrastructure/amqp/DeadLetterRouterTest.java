@@ -0,0 +1,174 @@
+package com.yansb.admin.api.infrastructure.amqp;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DeadLetterRouterTest {
+
+    private RabbitOperations ops;
+    private QueueProperties queueProps;
+    private DeadLetterRouter target;
+
+    @BeforeEach
+    public void setUp() {
+        this.ops = Mockito.mock(RabbitOperations.class);
+
+        this.queueProps = new QueueProperties();
+        this.queueProps.setExchange("video.events");
+        this.queueProps.setRoutingKey("video.encoded");
+        this.queueProps.setQueue("video.encoded.queue");
+
+        final var listenerProps = new ListenerProperties();
+        listenerProps.setRetryDelays(List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)));
+
+        final var publisherProps = new PublisherProperties();
+        publisherProps.setConfirmTimeout(Duration.ofMillis(200));
+
+        this.target = new DeadLetterRouter(queueProps, listenerProps, publisherProps, ops);
+    }
+
+    @Test
+    public void givenAFreshMessage_whenCallsRetry_shouldSendItToTheFirstTier() {
+        //given
+        final var aMessage = aMessage(null);
+        confirmWith(true);
+
+        //when
+        final var actualConfirmed = target.retry(aMessage, new IllegalStateException("boom"));
+
+        //then
+        Assertions.assertTrue(actualConfirmed);
+
+        final var captor = ArgumentCaptor.forClass(Message.class);
+        verify(ops).send(eq("video.events.retry"), eq("video.encoded.retry.0"), captor.capture(), any(CorrelationData.class));
+
+        final var actualMessage = captor.getValue();
+        Assertions.assertEquals(1, (Integer) actualMessage.getMessageProperties().getHeader(DeadLetterRouter.RETRY_COUNT_HEADER));
+        Assertions.assertArrayEquals(aMessage.getBody(), actualMessage.getBody());
+    }
+
+    @Test
+    public void givenARetriedMessage_whenCallsRetry_shouldSendItToTheNextTier() {
+        //given
+        final var aMessage = aMessage(1);
+
+        //when
+        target.retry(aMessage, new IllegalStateException("boom"));
+
+        //then
+        verify(ops).send(eq("video.events.retry"), eq("video.encoded.retry.1"), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenTheBrokerNacksTheRepublish_whenCallsRetry_shouldReportItUnconfirmed() {
+        //given
+        final var aMessage = aMessage(null);
+        confirmWith(false);
+
+        //when
+        final var actualConfirmed = target.retry(aMessage, new IllegalStateException("boom"));
+
+        //then
+        Assertions.assertFalse(actualConfirmed);
+    }
+
+    @Test
+    public void givenTheConfirmNeverArrives_whenCallsDeadLetter_shouldReportItUnconfirmed() {
+        //given
+        final var aMessage = aMessage(null);
+
+        //when
+        final var actualConfirmed = target.deadLetter(aMessage, "boom");
+
+        //then
+        Assertions.assertFalse(actualConfirmed);
+        verify(ops).send(eq("video.events.dlx"), eq("video.encoded"), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenAnExhaustedMessage_whenCallsRetry_shouldDeadLetterIt() {
+        //given
+        final var aMessage = aMessage(2);
+
+        //when
+        target.retry(aMessage, new IllegalStateException("boom"));
+
+        //then
+        verify(ops).send(eq("video.events.dlx"), eq("video.encoded"), any(Message.class), any(CorrelationData.class));
+        verify(ops, never()).send(eq("video.events.retry"), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenDeadLetters_whenCallsReplay_shouldRepublishAndAckUpToTheLimit() throws Exception {
+        //given
+        final var channel = Mockito.mock(Channel.class);
+        final var props = new AMQP.BasicProperties.Builder()
+                .headers(Map.of(DeadLetterRouter.RETRY_COUNT_HEADER, 3))
+                .build();
+
+        when(channel.basicGet(eq("video.encoded.queue.dlq"), eq(false)))
+                .thenReturn(
+                        new GetResponse(new Envelope(1, false, "", ""), props, "a".getBytes(StandardCharsets.UTF_8), 2),
+                        new GetResponse(new Envelope(2, false, "", ""), props, "b".getBytes(StandardCharsets.UTF_8), 1),
+                        new GetResponse(new Envelope(3, false, "", ""), props, "c".getBytes(StandardCharsets.UTF_8), 0)
+                );
+
+        when(ops.execute(any())).thenAnswer(t -> t.getArgument(0, ChannelCallback.class).doInRabbit(channel));
+
+        //when
+        final var actualReplayed = target.replay(2);
+
+        //then
+        Assertions.assertEquals(2, actualReplayed);
+
+        final var propsCaptor = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel, times(2)).basicPublish(eq("video.events"), eq("video.encoded"), propsCaptor.capture(), any(byte[].class));
+        verify(channel, times(2)).waitForConfirmsOrDie(eq(200L));
+        verify(channel).basicAck(eq(1L), anyBoolean());
+        verify(channel).basicAck(eq(2L), anyBoolean());
+        verify(channel, never()).basicAck(eq(3L), anyBoolean());
+
+        Assertions.assertFalse(propsCaptor.getValue().getHeaders().containsKey(DeadLetterRouter.RETRY_COUNT_HEADER));
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(t -> {
+            t.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(ack, null));
+            return null;
+        }).when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static Message aMessage(final Integer retries) {
+        final var builder = MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8));
+        if (retries != null) {
+            builder.setHeader(DeadLetterRouter.RETRY_COUNT_HEADER, retries);
+        }
+        return builder.build();
+    }
+}
@@ -1,46 +1,72 @@
 package com.yansb.admin.api.infrastructure.amqp;
 
+import com.rabbitmq.client.Channel;
 import com.yansb.admin.api.AmqpTest;
+import com.yansb.admin.api.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.yansb.admin.api.application.video.media.update.UpdateMediaStatusCommand;
-import com.yansb.admin.api.application.video.media.update.UpdateMediaStatusUseCase;
 import com.yansb.admin.api.domain.utils.IdUtils;
 import com.yansb.admin.api.domain.video.MediaStatus;
-import com.yansb.admin.api.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.yansb.admin.api.infrastructure.configuration.json.Json;
-import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.yansb.admin.api.infrastructure.video.models.VideoEncoderCompleted;
 import com.yansb.admin.api.infrastructure.video.models.VideoEncoderError;
 import com.yansb.admin.api.infrastructure.video.models.VideoMessage;
 import com.yansb.admin.api.infrastructure.video.models.VideoMetadata;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptID;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaStatusReceiptRepository;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
-import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @AmqpTest
 public class VideoEncoderListenerTest {
 
     @Autowired
-    private TestRabbitTemplate rabbitTemplate;
+    private RabbitListenerEndpointRegistry registry;
 
     @Autowired
     private RabbitListenerTestHarness harness;
 
+    @SpyBean
+    private MediaStatusReceiptRepository receiptRepository;
+
     @MockBean
-    private UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
 
-    @Autowired
-    @VideoEncodedQueue
-    private QueueProperties queueProperties;
+    @MockBean
+    private DeadLetterRouter deadLetterRouter;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        while (harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 0, TimeUnit.MILLISECONDS) != null) {
+        }
+    }
 
     @Test
     public void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
@@ -50,10 +76,10 @@ public class VideoEncoderListenerTest {
                 "Video not found"
         );
 
-        final var expectedMessage = Json.writeValueAsString(expectedError);
+        final var expectedMessage = message(expectedError);
 
         //when
-        this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+        deliver(expectedMessage);
 
         //then
         final var invocationData =
@@ -62,8 +88,11 @@ public class VideoEncoderListenerTest {
         Assertions.assertNotNull(invocationData);
         Assertions.assertNotNull(invocationData.getArguments());
 
-        final var actualMessage = (String) invocationData.getArguments()[0];
-        Assertions.assertEquals(expectedMessage, actualMessage);
+        final var actualMessages = (List<?>) invocationData.getArguments()[0];
+        Assertions.assertEquals(List.of(expectedMessage), actualMessages);
+
+        verify(batchUpdateMediaStatusUseCase, never()).execute(any());
+        verify(deadLetterRouter, times(1)).deadLetter(eq(expectedMessage), eq("Video not found"));
     }
 
     @Test
@@ -83,12 +112,8 @@ public class VideoEncoderListenerTest {
                 expectedMetadata
         );
 
-        final var expectedMessage = Json.writeValueAsString(aResult);
-
-        doNothing().when(updateMediaStatusUseCase).execute(any());
-
         //when
-        this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+        deliver(message(aResult));
 
         //then
         final var invocationData =
@@ -97,16 +122,226 @@ public class VideoEncoderListenerTest {
         Assertions.assertNotNull(invocationData);
         Assertions.assertNotNull(invocationData.getArguments());
 
-        final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
-        verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
+        final var cmdCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchUpdateMediaStatusUseCase).execute(cmdCaptor.capture());
+
+        final var actualCommands = (List<UpdateMediaStatusCommand>) cmdCaptor.getValue();
+        Assertions.assertEquals(1, actualCommands.size());
 
-        final var actualCommand = cmdCaptor.getValue();
+        final var actualCommand = actualCommands.get(0);
         Assertions.assertEquals(expectedId, actualCommand.videoId());
         Assertions.assertEquals(expectedStatus, actualCommand.status());
         Assertions.assertEquals(expectedResourceId, actualCommand.resourceId());
         Assertions.assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
         Assertions.assertEquals(expectedFilePath, actualCommand.filename());
 
+        Assertions.assertTrue(receiptRepository.existsById(
+                MediaStatusReceiptID.from(expectedResourceId, expectedStatus.name())));
+    }
+
+    @Test
+    public void givenManyResults_whenCallsListener_shouldUpdateThemInOneBatch() {
+        //given
+        final var aVideoId = IdUtils.uuid();
+        final var aVideoResult = completed(aVideoId, IdUtils.uuid());
+        final var aTrailerResult = completed(aVideoId, IdUtils.uuid());
+
+        //when
+        deliver(message(aVideoResult), message(aTrailerResult), message(aVideoResult));
+
+        //then
+        final var cmdCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchUpdateMediaStatusUseCase, times(1)).execute(cmdCaptor.capture());
+
+        final var actualResourceIds = ((List<UpdateMediaStatusCommand>) cmdCaptor.getValue()).stream()
+                .map(UpdateMediaStatusCommand::resourceId)
+                .toList();
+
+        Assertions.assertEquals(
+                List.of(aVideoResult.video().resourceId(), aTrailerResult.video().resourceId()),
+                actualResourceIds
+        );
+    }
+
+    @Test
+    public void givenARedeliveredResult_whenCallsListener_shouldIgnoreIt() {
+        //given
+        final var aResult = completed(IdUtils.uuid(), IdUtils.uuid());
+        deliver(message(aResult));
+
+        //when
+        deliver(message(aResult));
+
+        //then
+        verify(batchUpdateMediaStatusUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenAFailingUpdate_whenCallsListener_shouldRouteItToRetryInsteadOfRequeue() {
+        //given
+        final var aResult = completed(IdUtils.uuid(), IdUtils.uuid());
+        final var aMessage = message(aResult);
+        final var expectedError = new IllegalStateException("boom");
+
+        doThrow(expectedError).when(batchUpdateMediaStatusUseCase).execute(any());
+
+        //when
+        Assertions.assertDoesNotThrow(() -> deliver(aMessage));
+
+        //then
+        verify(deadLetterRouter, times(1)).retry(eq(aMessage), eq(expectedError));
+        Assertions.assertFalse(receiptRepository.existsById(
+                MediaStatusReceiptID.from(aResult.video().resourceId(), MediaStatus.COMPLETED.name())));
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsListener_shouldRetryOnlyTheFailingResults() {
+        //given
+        final var aHealthyResult = completed(IdUtils.uuid(), IdUtils.uuid());
+        final var aPoisonResult = completed(IdUtils.uuid(), IdUtils.uuid());
+        final var aPoisonMessage = message(aPoisonResult);
+
+        doAnswer(t -> {
+            final List<UpdateMediaStatusCommand> commands = t.getArgument(0);
+            if (commands.stream().anyMatch(it -> it.videoId().equals(aPoisonResult.id()))) {
+                throw new IllegalStateException("boom");
+            }
+            return null;
+        }).when(batchUpdateMediaStatusUseCase).execute(any());
+
+        //when
+        deliver(message(aHealthyResult), aPoisonMessage);
+
+        //then
+        verify(batchUpdateMediaStatusUseCase, times(3)).execute(any());
+        verify(deadLetterRouter, times(1)).retry(eq(aPoisonMessage), any());
+        Assertions.assertTrue(receiptRepository.existsById(
+                MediaStatusReceiptID.from(aHealthyResult.video().resourceId(), MediaStatus.COMPLETED.name())));
+    }
+
+    @Test
+    public void givenAppliedAndDuplicatedResults_whenCallsListener_shouldAckEachDelivery() throws Exception {
+        //given
+        final var aResult = completed(IdUtils.uuid(), IdUtils.uuid());
+
+        //when
+        final var channel = deliver(message(aResult, 1L), message(completed(IdUtils.uuid(), IdUtils.uuid()), 2L), message(aResult, 3L));
+
+        //then
+        verify(channel).basicAck(eq(1L), eq(false));
+        verify(channel).basicAck(eq(2L), eq(false));
+        verify(channel).basicAck(eq(3L), eq(false));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void givenAConfirmedRetry_whenCallsListener_shouldAckTheDelivery() throws Exception {
+        //given
+        final var aMessage = message(completed(IdUtils.uuid(), IdUtils.uuid()), 7L);
+
+        doThrow(new IllegalStateException("boom")).when(batchUpdateMediaStatusUseCase).execute(any());
+        when(deadLetterRouter.retry(any(), any())).thenReturn(true);
+
+        //when
+        final var channel = deliver(aMessage);
+
+        //then
+        verify(channel).basicAck(eq(7L), eq(false));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void givenAnUnconfirmedDeadLetter_whenCallsListener_shouldRouteItToRetry() throws Exception {
+        //given
+        final var aMessage = message(new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found"), 9L);
+
+        when(deadLetterRouter.deadLetter(any(), any())).thenReturn(false);
+        when(deadLetterRouter.retry(any(), any())).thenReturn(true);
+
+        //when
+        final var channel = deliver(aMessage);
+
+        //then
+        verify(deadLetterRouter, times(1)).retry(eq(aMessage), any());
+        verify(channel).basicAck(eq(9L), eq(false));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void givenAnUnconfirmedRetry_whenCallsListener_shouldRejectTheDeliveryWithoutRequeue() throws Exception {
+        //given
+        final var aMessage = message(completed(IdUtils.uuid(), IdUtils.uuid()), 11L);
+
+        doThrow(new IllegalStateException("boom")).when(batchUpdateMediaStatusUseCase).execute(any());
+        when(deadLetterRouter.retry(any(), any())).thenReturn(false);
+
+        //when
+        final var channel = deliver(aMessage);
+
+        //then
+        verify(channel).basicNack(eq(11L), eq(false), eq(false));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), eq(true));
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void givenAFailingReceiptLookup_whenCallsListener_shouldRetryEveryPendingDelivery() throws Exception {
+        //given
+        final var aMessage = message(completed(IdUtils.uuid(), IdUtils.uuid()), 12L);
+        final var anotherMessage = message(completed(IdUtils.uuid(), IdUtils.uuid()), 13L);
+        final var expectedError = new IllegalStateException("database unavailable");
+
+        doThrow(expectedError).when(receiptRepository).findAllById(any());
+        when(deadLetterRouter.retry(any(), any())).thenReturn(true);
+
+        //when
+        final var channel = Assertions.assertDoesNotThrow(() -> deliver(aMessage, anotherMessage));
+
+        //then
+        verify(batchUpdateMediaStatusUseCase, never()).execute(any());
+        verify(deadLetterRouter).retry(eq(aMessage), eq(expectedError));
+        verify(deadLetterRouter).retry(eq(anotherMessage), eq(expectedError));
+        verify(channel).basicAck(eq(12L), eq(false));
+        verify(channel).basicAck(eq(13L), eq(false));
+    }
+
+    @Test
+    public void givenAnUnreadablePayload_whenCallsListener_shouldDeadLetterIt() {
+        //given
+        final var aMessage = MessageBuilder.withBody("not-json".getBytes(StandardCharsets.UTF_8)).build();
+
+        //when
+        deliver(aMessage);
+
+        //then
+        verify(batchUpdateMediaStatusUseCase, never()).execute(any());
+        verify(deadLetterRouter, times(1)).deadLetter(eq(aMessage), any());
+    }
+
+    private Channel deliver(final Message... messages) {
+        final var container = (AbstractMessageListenerContainer) registry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
+        final var listener = (ChannelAwareBatchMessageListener) container.getMessageListener();
+        final var channel = Mockito.mock(Channel.class);
+        listener.onMessageBatch(List.of(messages), channel);
+        return channel;
+    }
+
+    private static VideoEncoderCompleted completed(final String videoId, final String resourceId) {
+        return new VideoEncoderCompleted(
+                videoId,
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", resourceId, "any.mp4")
+        );
+    }
+
+    private static Message message(final Object aResult) {
+        return message(aResult, 0L);
+    }
 
+    private static Message message(final Object aResult, final long aDeliveryTag) {
+        return MessageBuilder.withBody(Json.writeValueAsString(aResult).getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(aDeliveryTag)
+                .build();
     }
 }
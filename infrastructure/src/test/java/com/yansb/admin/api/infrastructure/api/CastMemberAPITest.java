@@ -6,6 +6,8 @@ import com.yansb.admin.api.ControllerTest;
 import com.yansb.admin.api.application.castMember.create.CreateCastMemberOutput;
 import com.yansb.admin.api.application.castMember.create.DefaultCreateCastMemberUseCase;
 import com.yansb.admin.api.application.castMember.delete.DefaultDeleteCastMemberUseCase;
+import com.yansb.admin.api.application.castMember.imports.DefaultImportCastMembersUseCase;
+import com.yansb.admin.api.application.castMember.imports.ImportCastMembersUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.get.CastMemberOutput;
 import com.yansb.admin.api.application.castMember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.yansb.admin.api.application.castMember.retrieve.list.CastMemberListOutput;
@@ -14,20 +16,26 @@ import com.yansb.admin.api.application.castMember.update.DefaultUpdateCastMember
 import com.yansb.admin.api.application.castMember.update.UpdateCastMemberOutput;
 import com.yansb.admin.api.domain.Fixture;
 import com.yansb.admin.api.domain.castMember.CastMember;
+import com.yansb.admin.api.domain.castMember.CastMemberGateway;
 import com.yansb.admin.api.domain.castMember.CastMemberID;
 import com.yansb.admin.api.domain.castMember.CastMemberType;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
 import com.yansb.admin.api.domain.exceptions.NotFoundException;
 import com.yansb.admin.api.domain.exceptions.NotificationException;
 import com.yansb.admin.api.domain.pagination.Pagination;
 import com.yansb.admin.api.domain.validation.Error;
 import com.yansb.admin.api.infrastructure.castMember.models.CreateCastMemberRequest;
 import com.yansb.admin.api.infrastructure.castMember.models.UpdateCastMemberRequest;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import javax.servlet.ServletException;
 import java.util.List;
 import java.util.Objects;
 
@@ -62,6 +70,9 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private ImportCastMembersUseCase importCastMembersUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -392,4 +403,107 @@ public class CastMemberAPITest {
                         && Objects.equals(expectedSort, aQuery.sort())
                         && Objects.equals(expectedDirection, aQuery.direction())));
     }
+
+    @Test
+    public void givenAMalformedLine_whenCallsImportCastMembers_shouldRejectItAndImportTheOthers() throws Exception {
+        // given
+        final var castMemberGateway = mock(CastMemberGateway.class);
+        importWith(castMemberGateway, 10, 10);
+
+        final var content = """
+                {"name":"Vin Diesel","type":"ACTOR"}
+                {"name":"Steven Spielberg",
+                {"name":"Quentin Tarantino","type":"DIRECTOR"}
+                """;
+
+        when(castMemberGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var response = this.mvc.perform(importRequest(content))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", startsWith("record 2: Malformed JSON")));
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members -> members.size() == 2));
+    }
+
+    @Test
+    public void givenMoreInvalidRecordsThanReported_whenCallsImportCastMembers_shouldKeepCountingRejectedRecords() throws Exception {
+        // given
+        final var castMemberGateway = mock(CastMemberGateway.class);
+        importWith(castMemberGateway, 10, 2);
+
+        final var content = """
+                {"type":"ACTOR"}
+                {"type":"ACTOR"}
+                {"name":"Vin Diesel","type":"ACTOR"}
+                {"type":"DIRECTOR"}
+                {"type":"DIRECTOR"}
+                """;
+
+        when(castMemberGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var response = this.mvc.perform(importRequest(content))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.rejected", equalTo(4)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("record 1: 'name' should not be null")))
+                .andExpect(jsonPath("$.errors[1].message", equalTo("record 2: 'name' should not be null")));
+    }
+
+    @Test
+    public void givenAFailingBatchWrite_whenCallsImportCastMembers_shouldReportTheRecordRangeOfTheBatch() {
+        // given
+        final var castMemberGateway = mock(CastMemberGateway.class);
+        importWith(castMemberGateway, 2, 10);
+
+        final var content = """
+                {"name":"Vin Diesel","type":"ACTOR"}
+                {"name":"Jason Statham","type":"ACTOR"}
+                {"name":"Steven Spielberg","type":"DIRECTOR"}
+                {"name":"Quentin Tarantino","type":"DIRECTOR"}
+                {"name":"Martin Scorsese","type":"DIRECTOR"}
+                """;
+
+        final var expectedErrorMessage = "An error on importing records 3 to 4 was observed after 2 were imported";
+
+        when(castMemberGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg())
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        // when
+        final var actualException = Assertions.assertThrows(ServletException.class, () ->
+                this.mvc.perform(importRequest(content)));
+
+        // then
+        final var actualCause = Assertions.assertInstanceOf(InternalErrorException.class, actualException.getCause());
+        Assertions.assertEquals(expectedErrorMessage, actualCause.getMessage());
+
+        verify(castMemberGateway, times(2)).createAll(any());
+    }
+
+    private void importWith(final CastMemberGateway castMemberGateway, final int batchSize, final int maxReportedErrors) {
+        final var anUseCase = new DefaultImportCastMembersUseCase(castMemberGateway, batchSize, maxReportedErrors);
+        when(importCastMembersUseCase.execute(any()))
+                .thenAnswer(t -> anUseCase.execute(t.getArgument(0)));
+    }
+
+    private static MockHttpServletRequestBuilder importRequest(final String content) {
+        return post("/cast_members/import")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(content);
+    }
 }
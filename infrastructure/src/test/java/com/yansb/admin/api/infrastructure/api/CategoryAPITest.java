@@ -5,7 +5,10 @@ import com.yansb.admin.api.ApiTest;
 import com.yansb.admin.api.ControllerTest;
 import com.yansb.admin.api.application.category.create.CreateCategoryOutput;
 import com.yansb.admin.api.application.category.create.CreateCategoryUseCase;
+import com.yansb.admin.api.application.category.create.CreateCategoryCommand;
 import com.yansb.admin.api.application.category.delete.DeleteCategoryUseCase;
+import com.yansb.admin.api.application.category.imports.ImportCategoriesUseCase;
+import com.yansb.admin.api.application.imports.ImportOutput;
 import com.yansb.admin.api.application.category.retrieve.get.CategoryOutput;
 import com.yansb.admin.api.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.yansb.admin.api.application.category.retrieve.list.CategoryListOutput;
@@ -16,12 +19,14 @@ import com.yansb.admin.api.domain.category.Category;
 import com.yansb.admin.api.domain.category.CategoryID;
 import com.yansb.admin.api.domain.exceptions.DomainException;
 import com.yansb.admin.api.domain.exceptions.NotFoundException;
+import com.yansb.admin.api.domain.pagination.CountMode;
 import com.yansb.admin.api.domain.pagination.Pagination;
 import com.yansb.admin.api.domain.validation.Error;
 import com.yansb.admin.api.domain.validation.handler.Notification;
 import com.yansb.admin.api.infrastructure.category.models.CreateCategoryRequest;
 import com.yansb.admin.api.infrastructure.category.models.UpdateCategoryRequest;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +34,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 import static io.vavr.API.Left;
@@ -67,6 +75,9 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -102,6 +113,57 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenNdjsonContent_whenCallsImportCategories_shouldStreamEveryRecordToTheUseCase() throws Exception {
+        // given
+        final var content = """
+                {"name":"Movies","description":"Most watched","is_active":true}
+
+                {"name":"Series"}
+                not a json
+                """;
+
+        final var expectedError = new Error("record 3: Malformed JSON: Unrecognized token 'not'");
+        final var commands = new ArrayList<CreateCategoryCommand>();
+
+        Mockito.when(importCategoriesUseCase.execute(Mockito.any()))
+                .thenAnswer(t -> {
+                    final var records = (Iterator<CreateCategoryCommand>) t.getArgument(0);
+                    while (records.hasNext()) {
+                        try {
+                            commands.add(records.next());
+                        } catch (final DomainException e) {
+                            Assertions.assertTrue(e.getErrors().get(0).message().startsWith("Malformed JSON"));
+                        }
+                    }
+                    return new ImportOutput(2, 1, List.of(expectedError));
+                });
+
+        final var request = post("/categories/import")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(content);
+
+        // when
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.imported", equalTo(2)),
+                        jsonPath("$.rejected", equalTo(1)),
+                        jsonPath("$.errors[0].message", equalTo(expectedError.message()))
+                );
+
+        // then
+        Assertions.assertEquals(2, commands.size());
+        Assertions.assertEquals("Movies", commands.get(0).name());
+        Assertions.assertEquals("Most watched", commands.get(0).description());
+        Assertions.assertTrue(commands.get(0).isActive());
+        Assertions.assertEquals("Series", commands.get(1).name());
+        Assertions.assertFalse(commands.get(1).isActive());
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenReturnNotificationException() throws Exception {
         //given
@@ -423,4 +485,117 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldReturnNextCursor() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedPerPage = 10;
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJzb3J0IjoibmFtZSIsImlkIjoiMTIzIn0";
+
+        final java.util.List<CategoryListOutput> expectedItems = of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(Pagination.cursor(expectedPerPage, expectedItems, expectedNextCursor));
+
+        //when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && query.isCursorMode()
+        ));
+    }
+
+    @Test
+    public void givenACountMode_whenCallsListCategories_shouldReturnHasNextWithoutTotal() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedPage = 1;
+        final var expectedPerPage = 1;
+
+        final java.util.List<CategoryListOutput> expectedItems = of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(Pagination.slice(expectedPage, expectedPerPage, expectedItems, true));
+
+        //when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("count", "none")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(CountMode.NONE, query.countMode())
+                        && !query.isCursorMode()
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownCountMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        //given
+        final var expectedErrorMessage = "Invalid approximate for CountMode";
+
+        //when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("count", "approximate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnknownSearchMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        //given
+        final var expectedErrorMessage = "Invalid fuzzy for SearchMode";
+
+        //when
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("search", "movies")
+                .queryParam("searchMode", "fuzzy")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
 }
@@ -0,0 +1,50 @@
+package com.yansb.admin.api.infrastructure.api;
+
+import com.yansb.admin.api.ApiTest;
+import com.yansb.admin.api.ControllerTest;
+import com.yansb.admin.api.infrastructure.amqp.DeadLetterRouter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = EventsAPI.class)
+class EventsAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private DeadLetterRouter deadLetterRouter;
+
+    @Test
+    public void givenALimit_whenCallsReplayDeadLetters_shouldReturnReplayedCount() throws Exception {
+        //given
+        final var expectedLimit = 50;
+        final var expectedReplayed = 12;
+
+        when(deadLetterRouter.replay(eq(expectedLimit)))
+                .thenReturn(expectedReplayed);
+
+        //when
+        final var aRequest = post("/events/video-encoded/dead-letters/replay")
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("limit", String.valueOf(expectedLimit));
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed", equalTo(expectedReplayed)));
+
+        verify(deadLetterRouter).replay(eq(expectedLimit));
+    }
+}
@@ -6,29 +6,39 @@ import com.yansb.admin.api.ControllerTest;
 import com.yansb.admin.api.application.genre.create.CreateGenreOutput;
 import com.yansb.admin.api.application.genre.create.CreateGenreUseCase;
 import com.yansb.admin.api.application.genre.delete.DeleteGenreUseCase;
+import com.yansb.admin.api.application.genre.imports.DefaultImportGenresUseCase;
+import com.yansb.admin.api.application.genre.imports.ImportGenresUseCase;
 import com.yansb.admin.api.application.genre.retrieve.get.GenreOutput;
 import com.yansb.admin.api.application.genre.retrieve.get.GetGenreUseCase;
 import com.yansb.admin.api.application.genre.retrieve.list.GenreListOutput;
 import com.yansb.admin.api.application.genre.retrieve.list.ListGenreUseCase;
 import com.yansb.admin.api.application.genre.update.UpdateGenreOutput;
 import com.yansb.admin.api.application.genre.update.UpdateGenreUseCase;
+import com.yansb.admin.api.domain.category.CategoryGateway;
 import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
 import com.yansb.admin.api.domain.exceptions.NotFoundException;
 import com.yansb.admin.api.domain.exceptions.NotificationException;
 import com.yansb.admin.api.domain.genre.Genre;
+import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
 import com.yansb.admin.api.domain.pagination.Pagination;
 import com.yansb.admin.api.domain.validation.handler.Notification;
 import com.yansb.admin.api.infrastructure.genre.models.CreateGenreRequest;
 import com.yansb.admin.api.infrastructure.genre.models.UpdateGenreRequest;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import javax.servlet.ServletException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -62,6 +72,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ImportGenresUseCase importGenresUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         final var expectedName = "Action";
@@ -344,5 +357,154 @@ public class GenreAPITest {
         ));
     }
 
+    @Test
+    public void givenAMalformedLine_whenCallsImportGenres_shouldRejectItAndImportTheOthers() throws Exception {
+        // given
+        final var categoryGateway = mock(CategoryGateway.class);
+        final var genreGateway = mock(GenreGateway.class);
+        importWith(categoryGateway, genreGateway, 10, 10);
+
+        final var content = """
+                {"name":"Action","is_active":true}
+                not a json
+                {"name":"Drama","is_active":false}
+                """;
+
+        when(genreGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var response = this.mvc.perform(importRequest(content))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", startsWith("record 2: Malformed JSON")));
+
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2));
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenMoreInvalidRecordsThanReported_whenCallsImportGenres_shouldKeepCountingRejectedRecords() throws Exception {
+        // given
+        final var categoryGateway = mock(CategoryGateway.class);
+        final var genreGateway = mock(GenreGateway.class);
+        importWith(categoryGateway, genreGateway, 10, 2);
+
+        final var content = """
+                {"is_active":true}
+                {"is_active":true}
+                {"name":"Action","is_active":true}
+                {"is_active":false}
+                {"is_active":false}
+                """;
+
+        when(genreGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var response = this.mvc.perform(importRequest(content))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.rejected", equalTo(4)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("record 1: 'name' should not be null")))
+                .andExpect(jsonPath("$.errors[1].message", equalTo("record 2: 'name' should not be null")));
+    }
+
+    @Test
+    public void givenAFailingBatchWrite_whenCallsImportGenres_shouldReportTheRecordRangeOfTheBatch() {
+        // given
+        final var categoryGateway = mock(CategoryGateway.class);
+        final var genreGateway = mock(GenreGateway.class);
+        importWith(categoryGateway, genreGateway, 2, 10);
+
+        final var content = """
+                {"name":"Action","is_active":true}
+                {"name":"Drama","is_active":true}
+                {"name":"Horror","is_active":true}
+                {"name":"Comedy","is_active":true}
+                {"name":"Romance","is_active":true}
+                """;
+
+        final var expectedErrorMessage = "An error on importing records 3 to 4 was observed after 2 were imported";
+
+        when(genreGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg())
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        // when
+        final var actualException = Assertions.assertThrows(ServletException.class, () ->
+                this.mvc.perform(importRequest(content)));
+
+        // then
+        final var actualCause = Assertions.assertInstanceOf(InternalErrorException.class, actualException.getCause());
+        Assertions.assertEquals(expectedErrorMessage, actualCause.getMessage());
+
+        verify(genreGateway, times(2)).createAll(any());
+    }
+
+    @Test
+    public void givenGenresInManyBatches_whenCallsImportGenres_shouldCheckTheCategoriesOfEachBatch() throws Exception {
+        // given
+        final var categoryGateway = mock(CategoryGateway.class);
+        final var genreGateway = mock(GenreGateway.class);
+        importWith(categoryGateway, genreGateway, 2, 10);
+
+        final var movies = CategoryID.from("movies");
+        final var series = CategoryID.from("series");
+        final var missing = CategoryID.from("missing");
+
+        final var content = """
+                {"name":"Action","categories_id":["movies"],"is_active":true}
+                {"name":"Drama","categories_id":["movies","missing"],"is_active":true}
+                {"name":"Horror","categories_id":["series"],"is_active":true}
+                """;
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(movies))
+                .thenReturn(List.of(series));
+        when(genreGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
 
+        // when
+        final var response = this.mvc.perform(importRequest(content))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("record 2: Some categories could not be found: missing")));
+
+        final var inOrder = inOrder(categoryGateway);
+        inOrder.verify(categoryGateway).existsByIds(eq(Set.of(movies, missing)));
+        inOrder.verify(categoryGateway).existsByIds(eq(Set.of(series)));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    private void importWith(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int batchSize,
+            final int maxReportedErrors
+    ) {
+        final var anUseCase = new DefaultImportGenresUseCase(categoryGateway, genreGateway, batchSize, maxReportedErrors);
+        when(importGenresUseCase.execute(any()))
+                .thenAnswer(t -> anUseCase.execute(t.getArgument(0)));
+    }
+
+    private static MockHttpServletRequestBuilder importRequest(final String content) {
+        return post("/genres/import")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(content);
+    }
 }
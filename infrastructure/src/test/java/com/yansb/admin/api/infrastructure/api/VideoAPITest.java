@@ -3,6 +3,8 @@ package com.yansb.admin.api.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yansb.admin.api.ApiTest;
 import com.yansb.admin.api.ControllerTest;
+import com.yansb.admin.api.application.video.create.BulkCreateVideoOutput;
+import com.yansb.admin.api.application.video.create.BulkCreateVideoUseCase;
 import com.yansb.admin.api.application.video.create.CreateVideoCommand;
 import com.yansb.admin.api.application.video.create.CreateVideoOutput;
 import com.yansb.admin.api.application.video.create.CreateVideoUseCase;
@@ -44,6 +46,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -69,6 +72,9 @@ class VideoAPITest {
     @MockBean
     private CreateVideoUseCase createVideoUseCase;
 
+    @MockBean
+    private BulkCreateVideoUseCase bulkCreateVideoUseCase;
+
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
@@ -189,6 +195,74 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenValidAndInvalidRequests_whenCallsCreateBulk_shouldReturnAResultPerVideo() throws Exception {
+        //given
+        final var documentaries = Fixture.Categories.documentaries();
+
+        final var expectedId = VideoID.unique();
+        final var expectedError = new Error("Some categories could not be found 123");
+
+        final var aValidRequest = new CreateVideoRequest(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.Videos.duration(),
+                Fixture.year(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(documentaries.getId().getValue()),
+                Set.of()
+        );
+
+        final var anInvalidRequest = new CreateVideoRequest(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.Videos.duration(),
+                Fixture.year(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of("123"),
+                Set.of()
+        );
+
+        when(bulkCreateVideoUseCase.execute(any()))
+                .thenReturn(List.of(
+                        new BulkCreateVideoOutput(expectedId.getValue(), List.of()),
+                        new BulkCreateVideoOutput(null, List.of(expectedError))
+                ));
+
+        //when
+        final var aRequest = post("/videos/bulk")
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(List.of(aValidRequest, anInvalidRequest)));
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedError.message())));
+
+        //then
+        final var cmdCaptor = ArgumentCaptor.forClass(List.class);
+
+        verify(bulkCreateVideoUseCase).execute(cmdCaptor.capture());
+
+        final var actualCmds = (List<CreateVideoCommand>) cmdCaptor.getValue();
+
+        Assertions.assertEquals(2, actualCmds.size());
+        Assertions.assertEquals(aValidRequest.title(), actualCmds.get(0).title());
+        Assertions.assertEquals(Set.of(documentaries.getId().getValue()), actualCmds.get(0).categories());
+        Assertions.assertEquals(Set.of("123"), actualCmds.get(1).categories());
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreatePartial_shouldReturnId() throws Exception {
         //given
@@ -757,6 +831,26 @@ class VideoAPITest {
         Assertions.assertTrue(actualQuery.castMembers().isEmpty());
     }
 
+    @Test
+    public void givenAnUnknownCountMode_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+        //given
+        final var expectedErrorMessage = "Invalid approximate for CountMode";
+
+        //when
+        final var aRequest = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("count", "approximate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(listVideosUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
         //given
@@ -766,20 +860,26 @@ class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
         //when
         final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
                 .with(ApiTest.VIDEOS_JWT);
 
-        final var response = this.mvc.perform(aRequest);
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
         //then
 
         response.andExpect(status().isOk())
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(expectedMedia.size())))
                 .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(HttpHeaders.ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -791,6 +891,116 @@ class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
     }
 
+    @Test
+    public void givenAValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedTotal = expectedResource.content().length;
+        final var expectedPart = Arrays.copyOfRange(expectedResource.content(), 2, 7);
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+        //when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "bytes=2-6")
+                .header(HttpHeaders.IF_RANGE, "\"%s\"".formatted(expectedResource.checksum()))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+        //then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "5"))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-6/%d".formatted(expectedTotal)))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=%s".formatted(expectedResource.name())))
+                .andExpect(content().bytes(expectedPart));
+
+        final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
+
+        verify(this.getMediaUseCase, times(1)).execute(captor.capture());
+
+        Assertions.assertEquals(GetMediaCommand.with(expectedId.getValue(), expectedMediaType.name()), captor.getValue());
+    }
+
+    @Test
+    public void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+        //when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "bytes=2-6")
+                .header(HttpHeaders.IF_RANGE, "\"stale\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedResource.name())))
+                .andExpect(content().bytes(expectedResource.content()));
+
+        verify(this.getMediaUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenAMalformedRange_whenCallsGetMediaById_shouldReturnFullContentAsAttachment() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+        //when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "pages=1-2")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedResource.name())))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturn416() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedTotal = expectedResource.content().length;
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+        //when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "bytes=%d-".formatted(expectedTotal))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(aRequest);
+        //then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(expectedTotal)));
+
+        verify(this.getMediaUseCase, times(1)).execute(any());
+    }
+
     @Test
     public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         //given
@@ -832,7 +1042,7 @@ class VideoAPITest {
         final var actualCmd = captor.getValue();
 
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
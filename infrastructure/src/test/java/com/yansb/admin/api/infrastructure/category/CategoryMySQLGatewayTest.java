@@ -3,6 +3,9 @@ package com.yansb.admin.api.infrastructure.category;
 import com.yansb.admin.api.MySQLGatewayTest;
 import com.yansb.admin.api.domain.category.Category;
 import com.yansb.admin.api.domain.category.CategoryID;
+import com.yansb.admin.api.domain.exceptions.DomainException;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.Pagination;
 import com.yansb.admin.api.domain.pagination.SearchQuery;
 import com.yansb.admin.api.infrastructure.category.persistence.CategoryJpaEntity;
 import com.yansb.admin.api.infrastructure.category.persistence.CategoryRepository;
@@ -10,7 +13,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 @MySQLGatewayTest
@@ -260,6 +265,108 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals("Shows", actualResult.items().get(0).getName());
     }
 
+    @Test
+    public void givenFollowCursor_whenCallsFindAllInCursorMode_shouldSeekThroughAllPages() {
+        final var perPage = 2;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var shows = Category.newCategory("Shows", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+        final var otherMovies = Category.newCategory("Movies", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(shows),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(otherMovies)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, perPage, "", "name", "asc", ""));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(perPage, actualResult.items().size());
+        Assertions.assertEquals("Documentaries", actualResult.items().get(0).getName());
+        Assertions.assertEquals("Movies", actualResult.items().get(1).getName());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        final var seen = new ArrayList<>(actualResult.items().stream().map(Category::getId).toList());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, perPage, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(perPage, actualResult.items().size());
+        Assertions.assertEquals("Movies", actualResult.items().get(0).getName());
+        Assertions.assertEquals("Shows", actualResult.items().get(1).getName());
+        Assertions.assertNull(actualResult.nextCursor());
+
+        seen.addAll(actualResult.items().stream().map(Category::getId).toList());
+        Assertions.assertEquals(
+                Set.of(movies.getId(), shows.getId(), documentaries.getId(), otherMovies.getId()),
+                Set.copyOf(seen)
+        );
+        Assertions.assertEquals(4, seen.size());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAll_shouldDetectNextPageWithoutCounting() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Shows", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true))
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertTrue(actualResult.hasNext());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE));
+
+        Assertions.assertEquals(1, actualResult.currentPage());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("Shows", actualResult.items().get(0).getName());
+        Assertions.assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenCountModeEstimated_whenCallsFindAllTwice_shouldReuseTheCachedCount() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Shows", null, true))
+        ));
+
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc", null, CountMode.ESTIMATED);
+
+        var actualResult = categoryGateway.findAll(aQuery);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true)));
+
+        actualResult = categoryGateway.findAll(aQuery);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(3, categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAllInCursorMode_shouldThrowDomainException() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Shows", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor)));
+
+        Assertions.assertEquals("'cursor' does not match the requested sort", actualException.getErrors().get(0).message());
+        Assertions.assertThrows(DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor")));
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchesCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -345,5 +452,39 @@ public class CategoryMySQLGatewayTest {
                 && expectedIds.containsAll(actualResult)
                 && actualResult.containsAll(expectedIds));
     }
-}
 
+    @Test
+    public void givenCachedIds_whenCallsExistsByIdsAgain_shouldAnswerFromTheCacheUntilDeletedThroughTheGateway() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var shows = Category.newCategory("Shows", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(shows)
+        ));
+
+        final var ids = List.of(movies.getId(), shows.getId());
+
+        Assertions.assertEquals(ids, categoryGateway.existsByIds(ids));
+
+        categoryRepository.deleteById(movies.getId().getValue());
+
+        Assertions.assertEquals(ids, categoryGateway.existsByIds(ids));
+
+        categoryGateway.deleteById(movies.getId());
+
+        Assertions.assertEquals(List.of(shows.getId()), categoryGateway.existsByIds(ids));
+    }
+
+    @Test
+    public void givenACachedMissingId_whenCallsCreate_shouldReportItAsExisting() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var ids = List.of(movies.getId());
+
+        Assertions.assertTrue(categoryGateway.existsByIds(ids).isEmpty());
+
+        categoryGateway.create(movies);
+
+        Assertions.assertEquals(ids, categoryGateway.existsByIds(ids));
+    }
+}
@@ -0,0 +1,242 @@
+package com.yansb.admin.api.infrastructure.outbox;
+
+import com.yansb.admin.api.IntegrationTest;
+import com.yansb.admin.api.domain.video.VideoMediaCreated;
+import com.yansb.admin.api.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.yansb.admin.api.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.yansb.admin.api.infrastructure.services.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@IntegrationTest
+class OutboxRelayTest {
+
+    @Autowired
+    @VideoCreatedQueue
+    private EventService eventService;
+
+    @Autowired
+    @VideoCreatedQueue
+    private QueueProperties queueProperties;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties props;
+    private RabbitOperations ops;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay target;
+
+    @BeforeEach
+    public void setUp() {
+        this.props = new OutboxProperties();
+        this.props.setBatchSize(10);
+        this.props.setConfirmTimeout(Duration.ofMillis(200));
+        this.props.setMaxAttempts(2);
+
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.target = new OutboxRelay(props, outboxRepository, ops, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.target.shutdown();
+    }
+
+    @Test
+    public void givenEventSentInsideATransaction_whenItRollsBack_shouldNotBeStored() {
+        //given
+        final var aTransaction = new TransactionTemplate(transactionManager);
+
+        //when
+        aTransaction.executeWithoutResult(status -> {
+            eventService.send(new VideoMediaCreated("resource", "filepath"));
+            status.setRollbackOnly();
+        });
+
+        //then
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void givenPendingEvents_whenBrokerConfirms_shouldPublishAndRemoveThem() {
+        //given
+        final var anEvent = new VideoMediaCreated("resource", "filepath");
+        eventService.send(anEvent);
+        eventService.send(new VideoMediaCreated("other", "filepath"));
+
+        confirmWith(true);
+
+        //when
+        final var actualRelayed = target.relay();
+
+        //then
+        Assertions.assertEquals(2, actualRelayed);
+        Assertions.assertEquals(0, outboxRepository.count());
+
+        verify(ops, times(1)).convertAndSend(
+                eq(queueProperties.getExchange()),
+                eq(queueProperties.getRoutingKey()),
+                eq(Json.writeValueAsString(anEvent)),
+                any(CorrelationData.class)
+        );
+        Assertions.assertEquals(2, meterRegistry.get("outbox.events.relayed").tag("outcome", "published").counter().count());
+        Assertions.assertEquals(0, meterRegistry.get("outbox.events.pending").gauge().value());
+    }
+
+    @Test
+    public void givenPendingEvents_whenBrokerNacks_shouldKeepThemForRetry() {
+        //given
+        eventService.send(new VideoMediaCreated("resource", "filepath"));
+
+        confirmWith(false);
+
+        //when
+        final var actualRelayed = target.relay();
+
+        //then
+        Assertions.assertEquals(0, actualRelayed);
+        Assertions.assertEquals(1, outboxRepository.count());
+        Assertions.assertEquals(1, outboxRepository.findAll().get(0).getAttempts());
+        Assertions.assertNull(outboxRepository.findAll().get(0).getFailedAt());
+        Assertions.assertEquals(1, meterRegistry.get("outbox.events.pending").gauge().value());
+    }
+
+    @Test
+    public void givenAnEventThatKeepsFailing_whenReachesMaxAttempts_shouldMarkItFailedAndStopRetrying() {
+        //given
+        eventService.send(new VideoMediaCreated("resource", "filepath"));
+
+        this.props.setInitialBackoff(Duration.ZERO);
+        confirmWith(false);
+
+        //when
+        target.relay();
+        target.relay();
+        final var actualRelayedAfterGivingUp = target.relay();
+
+        //then
+        Assertions.assertEquals(0, actualRelayedAfterGivingUp);
+        Assertions.assertEquals(1, outboxRepository.count());
+
+        final var actualEvent = outboxRepository.findAll().get(0);
+        Assertions.assertEquals(2, actualEvent.getAttempts());
+        Assertions.assertNotNull(actualEvent.getFailedAt());
+
+        verify(ops, times(2)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+        Assertions.assertEquals(1, meterRegistry.get("outbox.events.relayed").tag("outcome", "dead").counter().count());
+        Assertions.assertEquals(0, meterRegistry.get("outbox.events.pending").gauge().value());
+    }
+
+    @Test
+    public void givenNackedEvents_whenRelayingAgain_shouldBackOffExponentially() {
+        //given
+        eventService.send(new VideoMediaCreated("resource", "filepath"));
+
+        this.props.setMaxAttempts(10);
+        this.props.setInitialBackoff(Duration.ofSeconds(10));
+        this.props.setMaxBackoff(Duration.ofSeconds(15));
+        confirmWith(false);
+
+        //when
+        final var firstRelayedAt = Instant.now();
+        target.relay();
+        final var actualFirstAttemptAt = outboxRepository.findAll().get(0).getNextAttemptAt();
+        final var actualRelayedBeforeDue = target.relay();
+
+        outboxRepository.findAll().forEach(it -> {
+            it.setNextAttemptAt(Instant.now().minusSeconds(1));
+            outboxRepository.save(it);
+        });
+        final var secondRelayedAt = Instant.now();
+        target.relay();
+        final var actualSecondAttemptAt = outboxRepository.findAll().get(0).getNextAttemptAt();
+
+        //then
+        Assertions.assertEquals(0, actualRelayedBeforeDue);
+        Assertions.assertEquals(2, outboxRepository.findAll().get(0).getAttempts());
+        Assertions.assertFalse(actualFirstAttemptAt.isBefore(firstRelayedAt.plusSeconds(9)));
+        Assertions.assertTrue(actualFirstAttemptAt.isBefore(firstRelayedAt.plusSeconds(11)));
+        Assertions.assertFalse(actualSecondAttemptAt.isBefore(secondRelayedAt.plusSeconds(14)));
+        Assertions.assertTrue(actualSecondAttemptAt.isBefore(secondRelayedAt.plusSeconds(16)));
+        verify(ops, times(2)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenPendingEvents_whenPublishing_shouldHoldALeaseInsteadOfATransaction() {
+        //given
+        eventService.send(new VideoMediaCreated("resource", "filepath"));
+
+        final var insideTransaction = new AtomicBoolean(true);
+        final var leasedUntil = new AtomicReference<Instant>();
+        final var reclaimable = new AtomicReference<Integer>();
+        doAnswer(t -> {
+            insideTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            leasedUntil.set(outboxRepository.findAll().get(0).getNextAttemptAt());
+            reclaimable.set(new TransactionTemplate(transactionManager)
+                    .execute(status -> outboxRepository.findDue(Instant.now(), 10).size()));
+            t.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(ops).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        //when
+        final var actualRelayed = target.relay();
+
+        //then
+        Assertions.assertEquals(1, actualRelayed);
+        Assertions.assertFalse(insideTransaction.get());
+        Assertions.assertNotNull(leasedUntil.get());
+        Assertions.assertTrue(leasedUntil.get().isAfter(Instant.now()));
+        Assertions.assertEquals(0, reclaimable.get());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void givenPendingEvents_whenConfirmNeverArrives_shouldKeepThemForRetry() {
+        //given
+        eventService.send(new VideoMediaCreated("resource", "filepath"));
+
+        //when
+        final var actualRelayed = target.relay();
+
+        //then
+        Assertions.assertEquals(0, actualRelayed);
+        Assertions.assertEquals(1, outboxRepository.count());
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(t -> {
+            t.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(ack, null));
+            return null;
+        }).when(ops).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+}
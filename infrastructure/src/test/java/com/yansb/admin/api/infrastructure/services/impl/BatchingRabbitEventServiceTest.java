@@ -0,0 +1,178 @@
+package com.yansb.admin.api.infrastructure.services.impl;
+
+import com.yansb.admin.api.domain.video.VideoMediaCreated;
+import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.PublisherProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BatchingRabbitEventServiceTest {
+
+    private final String exchange = "video.events";
+    private final String routingKey = "video.created";
+    private RabbitOperations ops;
+    private PublisherProperties props;
+    private BatchingRabbitEventService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.props = new PublisherProperties();
+        this.props.setBatchSize(100);
+        this.props.setLinger(Duration.ofMillis(20));
+        this.props.setMaxRetries(2);
+        this.props.setConfirmTimeout(Duration.ofMillis(500));
+
+        doAnswer(t -> t.getArgument(0, RabbitOperations.OperationsCallback.class).doInRabbit(ops))
+                .when(ops).invoke(any());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (this.target != null) {
+            this.target.destroy();
+        }
+    }
+
+    @Test
+    public void givenManyEvents_whenCallsSendAsync_shouldPublishThemInBatches() throws Exception {
+        //given
+        final var expectedEvents = 1000;
+        confirmWith(true);
+        this.target = new BatchingRabbitEventService(exchange, routingKey, ops, props);
+
+        //when
+        final var actualResults = IntStream.range(0, expectedEvents)
+                .mapToObj(i -> target.sendAsync(new VideoMediaCreated("resource-" + i, "filepath")))
+                .toList();
+
+        //then
+        CompletableFuture.allOf(actualResults.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        verify(ops, times(expectedEvents)).convertAndSend(eq(exchange), eq(routingKey), any(Object.class), any(CorrelationData.class));
+        verify(ops, atMost(expectedEvents / 2)).invoke(any());
+    }
+
+    @Test
+    public void givenANackedEvent_whenCallsSendAsync_shouldRetryIt() throws Exception {
+        //given
+        final var anEvent = new VideoMediaCreated("resource", "filepath");
+        final var calls = new AtomicInteger();
+
+        doAnswer(t -> {
+            final var ack = calls.incrementAndGet() > 1;
+            t.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(ops).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        this.target = new BatchingRabbitEventService(exchange, routingKey, ops, props);
+
+        //when
+        this.target.sendAsync(anEvent).get(5, TimeUnit.SECONDS);
+
+        //then
+        verify(ops, times(2)).convertAndSend(eq(exchange), eq(routingKey), eq(Json.writeValueAsString(anEvent)), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenAnAlwaysNackedEvent_whenCallsSendAsync_shouldFailAfterRetries() {
+        //given
+        confirmWith(false);
+        this.target = new BatchingRabbitEventService(exchange, routingKey, ops, props);
+
+        //when
+        final var actualResult = this.target.sendAsync(new VideoMediaCreated("resource", "filepath"));
+
+        //then
+        final var actualException = Assertions.assertThrows(ExecutionException.class,
+                () -> actualResult.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(actualException.getCause().getMessage().contains("not confirmed after 3 attempts"));
+        verify(ops, times(3)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    public void givenAMissingConfirm_whenCallsSendAsync_shouldTimeOutAndFail() {
+        //given
+        this.props.setMaxRetries(0);
+        this.props.setConfirmTimeout(Duration.ofMillis(50));
+        this.target = new BatchingRabbitEventService(exchange, routingKey, ops, props);
+
+        //when
+        final var actualResult = this.target.sendAsync(new VideoMediaCreated("resource", "filepath"));
+
+        //then
+        Assertions.assertThrows(ExecutionException.class, () -> actualResult.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenABatchSizeGreaterThanMaxInFlight_whenCreatingTheService_shouldFail() {
+        //given
+        this.props.setBatchSize(10);
+        this.props.setMaxInFlight(5);
+
+        //when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> new BatchingRabbitEventService(exchange, routingKey, ops, props));
+
+        //then
+        Assertions.assertEquals(
+                "amqp.publisher.batch-size must not be greater than amqp.publisher.max-in-flight",
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    public void givenAnInterruptedPublisher_whenWaitingForInFlightPermits_shouldFailTheBatchInHand() throws Exception {
+        //given
+        this.props.setBatchSize(1);
+        this.props.setMaxInFlight(1);
+        this.props.setConfirmTimeout(Duration.ofSeconds(30));
+        this.target = new BatchingRabbitEventService(exchange, routingKey, ops, props);
+
+        this.target.sendAsync(new VideoMediaCreated("resource-1", "filepath"));
+        verify(ops, timeout(1000)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        final var flusher = Thread.getAllStackTraces().keySet().stream()
+                .filter(it -> it.getName().equals("rabbit-publisher-" + routingKey))
+                .findFirst()
+                .orElseThrow();
+
+        //when
+        final var actualResult = this.target.sendAsync(new VideoMediaCreated("resource-2", "filepath"));
+        while (flusher.getState() != Thread.State.WAITING) {
+            Thread.sleep(5);
+        }
+        flusher.interrupt();
+
+        //then
+        final var actualException = Assertions.assertThrows(ExecutionException.class,
+                () -> actualResult.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertInstanceOf(InterruptedException.class, actualException.getCause());
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(t -> {
+            t.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(ack, null));
+            return null;
+        }).when(ops).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+}
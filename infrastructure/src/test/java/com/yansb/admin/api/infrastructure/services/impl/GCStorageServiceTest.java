@@ -1,6 +1,9 @@
 package com.yansb.admin.api.infrastructure.services.impl;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -8,13 +11,22 @@ import com.google.cloud.storage.Storage;
 import com.yansb.admin.api.domain.Fixture;
 import com.yansb.admin.api.domain.video.Resource;
 import com.yansb.admin.api.domain.video.VideoMediaType;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
 import static org.mockito.Mockito.*;
@@ -22,13 +34,16 @@ import static org.mockito.Mockito.*;
 class GCStorageServiceTest {
 
     private final String bucket = "test";
+    private final int chunkSize = 256 * 1024;
     private GCStorageService target;
     private Storage storage;
+    private ResumableUploadSessions sessions;
 
     @BeforeEach
     public void setUp() {
         this.storage = Mockito.mock(Storage.class);
-        this.target = new GCStorageService(bucket, storage);
+        this.sessions = new ResumableUploadSessions();
+        this.target = new GCStorageService(bucket, storage, chunkSize, sessions);
     }
 
     @Test
@@ -53,20 +68,247 @@ class GCStorageServiceTest {
     }
 
     @Test
-    public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
+    public void givenStreamedResource_whenCallsStore_shouldStreamItAndReturnChecksum() throws Exception {
+        final var expectedContent = Fixture.Videos.resource(VideoMediaType.VIDEO).content();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any())).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var remaining = buffer.remaining();
+            final var bytes = new byte[remaining];
+            buffer.get(bytes);
+            written.write(bytes);
+            return remaining;
+        });
+        doReturn(Mockito.mock(RestorableState.class)).when(writer).capture();
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(capturer.capture());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(writer, times(1)).close();
+
+        final var actualBlob = capturer.getValue();
+        Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
+        Assertions.assertEquals(expectedId, actualBlob.getBlobId().getName());
+        Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+    }
+
+    @Test
+    public void givenInterruptedUpload_whenCallsStore_shouldKeepSessionAndNotFinalizeIt() throws Exception {
+        final var expectedContent = randomContent(chunkSize * 2 + 1024);
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        final RestorableState<WriteChannel> state = Mockito.mock(RestorableState.class);
+        when(writer.write(any()))
+                .thenAnswer(invocation -> capture(invocation.getArgument(0), written))
+                .thenThrow(new IOException("connection reset"));
+        doReturn(state).when(writer).capture();
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        Assertions.assertThrows(RuntimeException.class, () -> this.target.store(expectedId, expectedResource));
+
+        verify(writer, never()).close();
+
+        final var actualSession = this.sessions.find(expectedId, expectedContent.length, null).get();
+        Assertions.assertEquals(chunkSize, actualSession.position());
+        Assertions.assertEquals(crc32c(expectedContent, chunkSize), actualSession.prefixChecksum());
+        Assertions.assertEquals(state, actualSession.state());
+        Assertions.assertEquals(chunkSize, written.size());
+    }
+
+    @Test
+    public void givenPendingSession_whenCallsStore_shouldResumeFromLastChunk() throws Exception {
+        final var expectedContent = randomContent(chunkSize * 2 + 1024);
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        final RestorableState<WriteChannel> state = Mockito.mock(RestorableState.class);
+        when(writer.write(any())).thenAnswer(invocation -> capture(invocation.getArgument(0), written));
+        doReturn(writer).when(state).restore();
+        doReturn(state).when(writer).capture();
+
+        this.sessions.save(expectedId, new ResumableUploadSessions.Session(
+                expectedContent.length, null, chunkSize, crc32c(expectedContent, chunkSize), state
+        ));
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        verify(storage, never()).writer(any(BlobInfo.class));
+        verify(writer, times(1)).setChunkSize(eq(chunkSize));
+        verify(writer, times(1)).close();
+
+        final var expectedRemaining = Arrays.copyOfRange(expectedContent, chunkSize, expectedContent.length);
+        Assertions.assertArrayEquals(expectedRemaining, written.toByteArray());
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertTrue(this.sessions.find(expectedId, expectedContent.length, null).isEmpty());
+    }
+
+    @Test
+    public void givenPendingSessionOfAnotherPayloadWithSameNameAndSize_whenCallsStore_shouldStartOver() throws Exception {
+        final var previousContent = randomContent(chunkSize * 2 + 1024);
+        final var expectedContent = randomContent(previousContent.length);
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+
+        final RestorableState<WriteChannel> staleState = Mockito.mock(RestorableState.class);
+        this.sessions.save(expectedId, new ResumableUploadSessions.Session(
+                previousContent.length, null, chunkSize, crc32c(previousContent, chunkSize), staleState
+        ));
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any())).thenAnswer(invocation -> capture(invocation.getArgument(0), written));
+        doReturn(Mockito.mock(RestorableState.class)).when(writer).capture();
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        verify(staleState, never()).restore();
+        verify(storage, times(1)).writer(any(BlobInfo.class));
+        verify(writer, times(1)).close();
+
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertTrue(this.sessions.find(expectedId, expectedContent.length, null).isEmpty());
+    }
+
+    @Test
+    public void givenExpiredPendingSession_whenCallsStore_shouldDropItAndStartOver() throws Exception {
+        final var expectedContent = randomContent(chunkSize * 2 + 1024);
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+        final var expectedId = expectedResource.name();
+
+        final var expiredWriter = Mockito.mock(WriteChannel.class);
+        final RestorableState<WriteChannel> expiredState = Mockito.mock(RestorableState.class);
+        when(expiredWriter.write(any())).thenThrow(new IOException("410 Gone: upload session expired"));
+        doReturn(expiredWriter).when(expiredState).restore();
+
+        this.sessions.save(expectedId, new ResumableUploadSessions.Session(
+                expectedContent.length, null, chunkSize, crc32c(expectedContent, chunkSize), expiredState
+        ));
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any())).thenAnswer(invocation -> capture(invocation.getArgument(0), written));
+        doReturn(Mockito.mock(RestorableState.class)).when(writer).capture();
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+        verify(expiredState, times(1)).restore();
+        verify(expiredWriter, never()).close();
+        verify(storage, times(1)).writer(any(BlobInfo.class));
+        verify(writer, times(1)).close();
+
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertTrue(this.sessions.find(expectedId, expectedContent.length, null).isEmpty());
+    }
+
+    @Test
+    public void givenPendingSessionWithAnotherFingerprint_whenCallsFind_shouldBeEmpty() {
+        final RestorableState<WriteChannel> state = Mockito.mock(RestorableState.class);
+        this.sessions.save("video", new ResumableUploadSessions.Session(10, "aaaa", 5, 0L, state));
+
+        Assertions.assertTrue(this.sessions.find("video", 10, "bbbb").isEmpty());
+        Assertions.assertTrue(this.sessions.find("video", 10, null).isEmpty());
+        Assertions.assertTrue(this.sessions.find("video", 10, "aaaa").isPresent());
+    }
+
+    @Test
+    public void givenValidResource_whenCallsGet_shouldRetrieveIt() throws Exception {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
         final var expectedName = expectedResource.name();
 
         final Blob blob = mockBlob(expectedResource);
         doReturn(blob).when(storage).get(anyString(), anyString());
 
+        final var source = Channels.newChannel(new ByteArrayInputStream(expectedResource.content()));
+        final var reader = Mockito.mock(ReadChannel.class);
+        when(reader.read(any())).thenAnswer(invocation -> source.read(invocation.getArgument(0)));
+        doReturn(reader).when(storage).reader(any(BlobId.class));
+
         //when
         final var actualResource = this.target.get(expectedName).get();
 
-
         verify(storage, times(1)).get(eq(this.bucket), eq(expectedName));
+        verify(storage, never()).reader(any(BlobId.class));
+        verify(blob, never()).getContent();
+
+        Assertions.assertTrue(actualResource.isStreamed());
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResource.size());
+        Assertions.assertEquals(expectedResource.contentType(), actualResource.contentType());
+        Assertions.assertEquals(expectedResource.name(), actualResource.name());
+
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedResource.content(), in.readAllBytes());
+        }
+        verify(storage, times(1)).reader(eq(BlobId.of(this.bucket, expectedName)));
+    }
 
-        Assertions.assertEquals(expectedResource, actualResource);
+    @Test
+    public void givenResolvedResource_whenOpensARange_shouldSeekAndLimitTheReader() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedName = expectedResource.name();
+
+        final Blob blob = mockBlob(expectedResource);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        final var reader = Mockito.mock(ReadChannel.class);
+        doReturn(reader).when(reader).limit(anyLong());
+        doReturn(reader).when(storage).reader(any(BlobId.class));
+
+        //when
+        final var actualResource = this.target.get(expectedName).get();
+        actualResource.openStream(2, 5).close();
+
+        verify(storage, times(1)).get(eq(this.bucket), eq(expectedName));
+        verify(reader, times(1)).seek(eq(2L));
+        verify(reader, times(1)).limit(eq(7L));
     }
 
     @Test
@@ -141,12 +383,81 @@ class GCStorageServiceTest {
                 && actualResources.containsAll(expectedResources));
     }
 
+    @Test
+    public void givenPagedListing_whenCallsListWithPageSize_shouldStreamEachPage() {
+        //given
+        final var expectedPrefix = "media_";
+        final var expectedPageSize = 2;
+
+        final var firstPage = Mockito.mock(Page.class);
+        final var lastPage = Mockito.mock(Page.class);
+        final var video = mockBlob(Fixture.Videos.resource(VideoMediaType.VIDEO));
+        final var trailer = mockBlob(Fixture.Videos.resource(VideoMediaType.TRAILER));
+        final var banner = mockBlob(Fixture.Videos.resource(VideoMediaType.BANNER));
+
+        doReturn(List.of(video, trailer)).when(firstPage).getValues();
+        doReturn(lastPage).when(firstPage).getNextPage();
+        doReturn(List.of(banner)).when(lastPage).getValues();
+        doReturn(null).when(lastPage).getNextPage();
+        doReturn(firstPage).when(storage).list(anyString(), any(), any());
+
+        //when
+        final var actualPages = this.target.list(expectedPrefix, expectedPageSize).toList();
+
+        //then
+        Assertions.assertEquals(2, actualPages.size());
+        Assertions.assertEquals(List.of(video.getBlobId().getName(), trailer.getBlobId().getName()), actualPages.get(0));
+        Assertions.assertEquals(List.of(banner.getBlobId().getName()), actualPages.get(1));
+
+        verify(storage, times(1)).list(
+                eq(this.bucket),
+                eq(prefix(expectedPrefix)),
+                eq(Storage.BlobListOption.pageSize(expectedPageSize))
+        );
+        verify(storage, never()).list(anyString(), any());
+    }
+
+    @Test
+    public void givenMissingNames_whenCallsDelete_shouldReportDeletedAndMissing() {
+        //given
+        final var expectedResources = List.of("media_video", "media_banner", "media_trailer");
+        doReturn(List.of(true, false, true)).when(storage).delete(anyList());
+
+        //when
+        final var actualReport = this.target.deleteAll(expectedResources);
+
+        //then
+        Assertions.assertEquals(2, actualReport.deleted());
+        Assertions.assertEquals(1, actualReport.missing());
+        Assertions.assertTrue(actualReport.failed().isEmpty());
+    }
+
+    private static int capture(final ByteBuffer buffer, final ByteArrayOutputStream out) {
+        final var remaining = buffer.remaining();
+        final var bytes = new byte[remaining];
+        buffer.get(bytes);
+        out.writeBytes(bytes);
+        return remaining;
+    }
+
+    private static long crc32c(final byte[] content, final int length) {
+        final var crc = new CRC32C();
+        crc.update(content, 0, length);
+        return crc.getValue();
+    }
+
+    private static byte[] randomContent(final int size) {
+        final var content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+
     private Blob mockBlob(final Resource resource) {
         final var blob1 = Mockito.mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
         when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob1.getContent()).thenReturn(resource.content());
         when(blob1.getContentType()).thenReturn(resource.contentType());
+        when(blob1.getSize()).thenReturn(resource.size());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
     }
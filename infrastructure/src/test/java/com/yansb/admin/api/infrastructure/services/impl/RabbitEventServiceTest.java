@@ -4,10 +4,13 @@ import com.yansb.admin.api.AmqpTest;
 import com.yansb.admin.api.domain.video.VideoMediaCreated;
 import com.yansb.admin.api.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.yansb.admin.api.infrastructure.configuration.json.Json;
+import com.yansb.admin.api.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.yansb.admin.api.infrastructure.services.EventService;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -21,11 +24,21 @@ public class RabbitEventServiceTest {
 
     @Autowired
     @VideoCreatedQueue
-    private EventService publisher;
+    private QueueProperties props;
+
+    @Autowired
+    private RabbitOperations ops;
 
     @Autowired
     private RabbitListenerTestHarness harness;
 
+    private EventService publisher;
+
+    @BeforeEach
+    public void setUp() {
+        this.publisher = new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+    }
+
     @Test
     public void shouldSendMessage() throws InterruptedException {
         //given
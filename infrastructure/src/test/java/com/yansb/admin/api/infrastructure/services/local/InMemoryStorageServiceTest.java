@@ -2,14 +2,19 @@ package com.yansb.admin.api.infrastructure.services.local;
 
 import com.yansb.admin.api.domain.Fixture;
 import com.yansb.admin.api.domain.utils.IdUtils;
+import com.yansb.admin.api.domain.video.Resource;
 import com.yansb.admin.api.domain.video.VideoMediaType;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +39,31 @@ class InMemoryStorageServiceTest {
         assertEquals(expectedResource, target.storage().get(expectedName));
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldStoreItWithChecksum() {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = Fixture.Videos.resource(VideoMediaType.VIDEO).content();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+
+        //when
+        final var actualChecksum = target.store(expectedName, aResource);
+
+        //then
+        final var actualResource = target.storage().get(expectedName);
+        assertEquals(expectedChecksum, actualChecksum);
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(aResource.contentType(), actualResource.contentType());
+        assertEquals(aResource.name(), actualResource.name());
+    }
+
     @Test
     public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
         //given
@@ -48,6 +78,23 @@ class InMemoryStorageServiceTest {
         assertEquals(expectedResource, actualResource);
     }
 
+    @Test
+    public void givenResolvedResource_whenOpensARange_shouldReadOnlyTheRange() throws Exception {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedContent = Arrays.copyOfRange(aResource.content(), 2, 7);
+        target.store(expectedName, aResource);
+
+        //when
+        final var actualResource = target.get(expectedName).get();
+
+        //then
+        try (final var in = actualResource.openStream(2, 5)) {
+            assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
     @Test
     public void givenInvalidResource_whenCallsGet_shouldBeEmpty() {
         //given
@@ -105,9 +152,11 @@ class InMemoryStorageServiceTest {
         assertEquals(all.size(), target.storage().size());
 
         //when
-        target.deleteAll(videos);
+        final var actualReport = target.deleteAll(videos);
 
         //then
+        assertEquals(videos.size(), actualReport.deleted());
+        assertEquals(0, actualReport.missing());
         assertEquals(2, target.storage().size());
         final var actualKeys = target.storage().keySet();
         assertTrue(
@@ -115,4 +164,39 @@ class InMemoryStorageServiceTest {
                         && expectedNames.containsAll(actualKeys)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenValidPrefix_whenCallsListWithPageSize_shouldPageSortedNames() {
+        //given
+        final var expectedNames = List.of(
+                "video_1/type-BANNER",
+                "video_1/type-THUMBNAIL",
+                "video_1/type-TRAILER",
+                "video_1/type-VIDEO"
+        );
+        expectedNames.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+        target.store("video_10/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+        target.store("video_0/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        final var actualPages = target.list("video_1/", 3).toList();
+
+        //then
+        assertEquals(List.of(expectedNames.subList(0, 3), expectedNames.subList(3, 4)), actualPages);
+    }
+
+    @Test
+    public void givenUnknownNames_whenCallsDelete_shouldReportThemAsMissing() {
+        //given
+        final var expectedName = "video_" + IdUtils.uuid();
+        target.store(expectedName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        final var actualReport = target.deleteAll(List.of(expectedName, "video_" + IdUtils.uuid()));
+
+        //then
+        assertEquals(1, actualReport.deleted());
+        assertEquals(1, actualReport.missing());
+        assertTrue(actualReport.failed().isEmpty());
+    }
+}
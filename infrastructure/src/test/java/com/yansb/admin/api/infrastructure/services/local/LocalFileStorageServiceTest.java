@@ -0,0 +1,154 @@
+package com.yansb.admin.api.infrastructure.services.local;
+
+import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.video.Resource;
+import com.yansb.admin.api.domain.video.VideoMediaType;
+import com.yansb.admin.api.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService target;
+
+    @BeforeEach
+    public void setup() {
+        this.target = new LocalFileStorageService(root);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_shouldStoreIt() throws Exception {
+        //given
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedChecksum = HashingUtils.checksum(expectedResource.content());
+
+        //when
+        final var actualChecksum = target.store(expectedName, expectedResource);
+
+        //then
+        final var actualResource = target.get(expectedName).get();
+
+        assertEquals(expectedChecksum, actualChecksum);
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.content().length, actualResource.size());
+        assertArrayEquals(expectedResource.content(), actualResource.content());
+
+        try (final var files = Files.walk(root)) {
+            assertTrue(files.noneMatch(it -> it.getFileName().toString().startsWith(".upload-")));
+        }
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_shouldStoreItWithChecksum() {
+        //given
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedContent = Fixture.Videos.resource(VideoMediaType.VIDEO).content();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+
+        //when
+        final var actualChecksum = target.store(expectedName, aResource);
+
+        //then
+        assertEquals(expectedChecksum, actualChecksum);
+        assertArrayEquals(expectedContent, target.get(expectedName).get().content());
+    }
+
+    @Test
+    public void givenResolvedResource_whenOpensARange_shouldReadOnlyTheRange() throws Exception {
+        //given
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedContent = Arrays.copyOfRange(aResource.content(), 2, 7);
+        target.store(expectedName, aResource);
+
+        //when
+        final var actualResource = target.get(expectedName).get();
+
+        //then
+        try (final var in = actualResource.openStream(2, 5)) {
+            assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_shouldBeEmpty() {
+        //when
+        final var actualResource = target.get("videoId-123/type-VIDEO");
+
+        //then
+        assertTrue(actualResource.isEmpty());
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallsList_shouldListOnlyMatchingNames() {
+        //given
+        final var expectedNames = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+        expectedNames.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+        target.store("videoId-456/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        final var actualNames = target.list("videoId-123");
+
+        //then
+        assertTrue(expectedNames.size() == actualNames.size() && actualNames.containsAll(expectedNames));
+    }
+
+    @Test
+    public void givenFlatNames_whenCallsListWithPartialPrefix_shouldListOnlyMatchingEntries() {
+        //given
+        final var expectedNames = List.of("videoId-123-VIDEO", "videoId-123-BANNER", "videoId-123/type-TRAILER");
+        expectedNames.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+        target.store("videoId-456-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+        target.store("other/videoId-123-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        final var actualNames = target.list("videoId-123");
+
+        //then
+        assertTrue(expectedNames.size() == actualNames.size() && actualNames.containsAll(expectedNames));
+    }
+
+    @Test
+    public void givenValidNames_whenCallsDelete_shouldDeleteAll() {
+        //given
+        final var names = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+        names.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+        target.store("videoId-456/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        target.deleteAll(names);
+
+        //then
+        assertTrue(target.list("videoId-123").isEmpty());
+        assertEquals(List.of("videoId-456/type-VIDEO"), target.list("videoId-"));
+    }
+
+    @Test
+    public void givenNameOutsideRoot_whenCallsStore_shouldFail() {
+        //given
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        //when
+        assertThrows(IllegalArgumentException.class, () -> target.store("../escape", aResource));
+    }
+}
@@ -0,0 +1,204 @@
+package com.yansb.admin.api.infrastructure.video;
+
+import com.yansb.admin.api.IntegrationTest;
+import com.yansb.admin.api.domain.video.*;
+import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.services.local.InMemoryStorageService;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaBlobRepository;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaReferenceRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.yansb.admin.api.domain.Fixture.Videos.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@IntegrationTest
+@TestPropertySource(properties = "storage.catalogo-videos.content-addressed=true")
+class ContentAddressedMediaResourceGatewayTest {
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @SpyBean
+    private StorageService storageService;
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    @Autowired
+    private MediaReferenceRepository referenceRepository;
+
+    @BeforeEach
+    public void setUp() {
+        referenceRepository.deleteAll();
+        blobRepository.deleteAll();
+        storageService().reset();
+    }
+
+    @Test
+    public void testInjection() {
+        Assertions.assertInstanceOf(ContentAddressedMediaResourceGateway.class, mediaResourceGateway);
+    }
+
+    @Test
+    public void givenSameContentForTwoVideos_whenCallsStoreImage_shouldUploadItOnce() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedResource = resource(VideoMediaType.BANNER);
+
+        //when
+        final var mediaOne = mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, VideoMediaType.BANNER));
+        final var mediaTwo = mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedResource, VideoMediaType.BANNER));
+
+        //then
+        Assertions.assertEquals(mediaOne.location(), mediaTwo.location());
+        Assertions.assertEquals(mediaOne.checksum(), mediaTwo.checksum());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(2, blobRepository.findById(mediaOne.location()).get().getRefCount());
+
+        Assertions.assertArrayEquals(
+                expectedResource.content(),
+                mediaResourceGateway.getResource(videoTwo, VideoMediaType.BANNER).get().content()
+        );
+    }
+
+    @Test
+    public void givenSharedContent_whenCallsClearResources_shouldOnlyDeleteUnreferencedBlobs() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var sharedResource = resource(VideoMediaType.TRAILER);
+        final var ownResource = resource(VideoMediaType.VIDEO);
+
+        final var shared = mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(sharedResource, VideoMediaType.TRAILER));
+        mediaResourceGateway.storeAudioVideo(videoTwo, VideoResource.with(sharedResource, VideoMediaType.TRAILER));
+        final var own = mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(ownResource, VideoMediaType.VIDEO));
+
+        Assertions.assertEquals(2, storageService().storage().size());
+
+        //when
+        mediaResourceGateway.clearResources(videoOne);
+
+        //then
+        Assertions.assertTrue(storageService().storage().containsKey(shared.location()));
+        Assertions.assertFalse(storageService().storage().containsKey(own.location()));
+        Assertions.assertEquals(1, blobRepository.findById(shared.location()).get().getRefCount());
+        Assertions.assertTrue(blobRepository.findById(own.location()).isEmpty());
+        Assertions.assertTrue(mediaResourceGateway.getResource(videoOne, VideoMediaType.TRAILER).isEmpty());
+        Assertions.assertTrue(mediaResourceGateway.getResource(videoTwo, VideoMediaType.TRAILER).isPresent());
+    }
+
+    @Test
+    public void givenReplacedMedia_whenCallsStoreAudioVideo_shouldReleasePreviousBlob() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var previous = mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(resource(VideoMediaType.VIDEO), VideoMediaType.VIDEO));
+
+        //when
+        final var actual = mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(resource(VideoMediaType.VIDEO), VideoMediaType.VIDEO));
+
+        //then
+        Assertions.assertNotEquals(previous.location(), actual.location());
+        Assertions.assertFalse(storageService().storage().containsKey(previous.location()));
+        Assertions.assertTrue(storageService().storage().containsKey(actual.location()));
+    }
+
+    @Test
+    public void givenAFailingStorageDelete_whenCallsClearResources_shouldKeepTheReferencesRemoved() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var stored = mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(resource(VideoMediaType.VIDEO), VideoMediaType.VIDEO));
+
+        doThrow(new IllegalStateException("storage unavailable")).when(storageService).deleteAll(any());
+
+        //when
+        Assertions.assertDoesNotThrow(() -> mediaResourceGateway.clearResources(videoOne));
+
+        //then
+        Assertions.assertTrue(referenceRepository.findAllByIdVideoId(videoOne.getValue()).isEmpty());
+        Assertions.assertTrue(storageService().storage().containsKey(stored.location()));
+        Assertions.assertEquals(0, blobRepository.findById(stored.location()).get().getRefCount());
+    }
+
+    @Test
+    public void givenAnUnreferencedBlobLeftBehind_whenTheSameContentIsStoredAgain_shouldReuseIt() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedResource = resource(VideoMediaType.BANNER);
+        final var stored = mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, VideoMediaType.BANNER));
+
+        doThrow(new IllegalStateException("storage unavailable")).when(storageService).deleteAll(any());
+        mediaResourceGateway.clearResources(videoOne);
+
+        //when
+        final var actual = mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedResource, VideoMediaType.BANNER));
+
+        //then
+        Assertions.assertEquals(stored.location(), actual.location());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(1, blobRepository.findById(stored.location()).get().getRefCount());
+    }
+
+    @Test
+    public void givenReleaseAndRetainOfTheSameContentAtTheSameTime_whenBothFinish_shouldKeepTheStoredContent() throws Exception {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedResource = resource(VideoMediaType.BANNER);
+        final var stored = mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, VideoMediaType.BANNER));
+
+        final var deleting = new CountDownLatch(1);
+        final var proceed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            deleting.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(storageService).deleteAll(any());
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            //when
+            final var release = executor.submit(() -> mediaResourceGateway.clearResources(videoOne));
+            Assertions.assertTrue(deleting.await(5, TimeUnit.SECONDS));
+
+            final var retain = executor.submit(() ->
+                    mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedResource, VideoMediaType.BANNER)));
+
+            // the upload must wait on the blob row while the release is still deleting the stored content
+            Assertions.assertThrows(TimeoutException.class, () -> retain.get(300, TimeUnit.MILLISECONDS));
+
+            proceed.countDown();
+            release.get(5, TimeUnit.SECONDS);
+            final var actual = retain.get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(stored.location(), actual.location());
+            Assertions.assertTrue(storageService().storage().containsKey(stored.location()));
+            Assertions.assertEquals(1, blobRepository.findById(stored.location()).get().getRefCount());
+            Assertions.assertArrayEquals(
+                    expectedResource.content(),
+                    mediaResourceGateway.getResource(videoTwo, VideoMediaType.BANNER).get().content()
+            );
+        } finally {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
@@ -2,18 +2,28 @@ package com.yansb.admin.api.infrastructure.video;
 
 import com.yansb.admin.api.IntegrationTest;
 import com.yansb.admin.api.domain.Fixture;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
 import com.yansb.admin.api.domain.video.*;
+import com.yansb.admin.api.infrastructure.configuration.properties.storage.StorageProperties;
+import com.yansb.admin.api.infrastructure.services.DeletionReport;
 import com.yansb.admin.api.infrastructure.services.StorageService;
 import com.yansb.admin.api.infrastructure.services.local.InMemoryStorageService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static com.yansb.admin.api.domain.Fixture.Videos.mediaType;
 import static com.yansb.admin.api.domain.Fixture.Videos.resource;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @IntegrationTest
 class DefaultMediaResourceGatewayTest {
@@ -157,6 +167,42 @@ class DefaultMediaResourceGatewayTest {
                 && actualKeys.containsAll(expectedValues));
     }
 
+    @Test
+    public void givenAFailingBatch_whenCallsClearResources_shouldDeleteTheOthersAndThrow() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFileNamePattern("type-{type}");
+        props.setListPageSize(10);
+        props.setDeleteBatchSize(2);
+        props.setDeleteConcurrency(2);
+
+        final var healthyBatch = List.of("videoId-1/type-VIDEO", "videoId-1/type-TRAILER");
+        final var failingBatch = List.of("videoId-1/type-BANNER");
+        final var aStorageService = Mockito.mock(StorageService.class);
+        final var target = new DefaultMediaResourceGateway(props, aStorageService);
+
+        when(aStorageService.list(anyString(), anyInt()))
+                .thenReturn(Stream.of(Stream.concat(healthyBatch.stream(), failingBatch.stream()).toList()));
+        when(aStorageService.deleteAll(healthyBatch))
+                .thenReturn(new DeletionReport(2, 0, List.of()));
+        when(aStorageService.deleteAll(failingBatch))
+                .thenThrow(new IllegalStateException("Storage is unavailable"));
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class,
+                () -> target.clearResources(videoOne));
+
+        //then
+        Assertions.assertTrue(actualException.getMessage().contains("Failed to delete 1 resources"));
+        verify(aStorageService).list("videoId-%s".formatted(videoOne.getValue()), 10);
+        verify(aStorageService).deleteAll(healthyBatch);
+        verify(aStorageService).deleteAll(failingBatch);
+
+        target.shutdown();
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
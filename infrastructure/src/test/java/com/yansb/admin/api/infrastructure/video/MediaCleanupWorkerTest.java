@@ -0,0 +1,108 @@
+package com.yansb.admin.api.infrastructure.video;
+
+import com.yansb.admin.api.IntegrationTest;
+import com.yansb.admin.api.domain.exceptions.InternalErrorException;
+import com.yansb.admin.api.domain.video.MediaResourceGateway;
+import com.yansb.admin.api.domain.video.VideoID;
+import com.yansb.admin.api.domain.video.VideoMediaType;
+import com.yansb.admin.api.domain.video.VideoResource;
+import com.yansb.admin.api.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.yansb.admin.api.infrastructure.services.StorageService;
+import com.yansb.admin.api.infrastructure.services.local.InMemoryStorageService;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskJpaEntity;
+import com.yansb.admin.api.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.yansb.admin.api.domain.Fixture.Videos.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+@IntegrationTest
+class MediaCleanupWorkerTest {
+
+    @Autowired
+    private MediaCleanupWorker worker;
+
+    @Autowired
+    private MediaCleanupTaskRepository taskRepository;
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @BeforeEach
+    public void setUp() {
+        storageService().reset();
+    }
+
+    @Test
+    public void givenAPendingTask_whenCallsDrain_shouldClearResourcesAndCompleteIt() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(resource(VideoMediaType.VIDEO), VideoMediaType.VIDEO));
+        mediaResourceGateway.storeImage(videoOne, VideoResource.with(resource(VideoMediaType.BANNER), VideoMediaType.BANNER));
+        mediaResourceGateway.storeImage(videoTwo, VideoResource.with(resource(VideoMediaType.BANNER), VideoMediaType.BANNER));
+
+        taskRepository.saveAndFlush(MediaCleanupTaskJpaEntity.of(videoOne.getValue()));
+
+        //when
+        final var actualProcessed = worker.drain();
+
+        //then
+        Assertions.assertEquals(1, actualProcessed);
+        Assertions.assertEquals(0, taskRepository.count());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(mediaResourceGateway.getResource(videoOne, VideoMediaType.VIDEO).isEmpty());
+        Assertions.assertTrue(mediaResourceGateway.getResource(videoTwo, VideoMediaType.BANNER).isPresent());
+    }
+
+    @Test
+    public void givenAFailingCleanup_whenCallsDrain_shouldRescheduleWithBackoff() {
+        //given
+        final var aVideoId = VideoID.unique();
+        final var expectedError = "Storage is unavailable";
+        final var props = new MediaCleanupProperties();
+        props.setInitialBackoff(Duration.ofMinutes(1));
+
+        final var aGateway = Mockito.mock(MediaResourceGateway.class);
+        doThrow(InternalErrorException.with(expectedError, null)).when(aGateway).clearResources(any());
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var target = new MediaCleanupWorker(props, taskRepository, aGateway, meterRegistry);
+
+        taskRepository.saveAndFlush(MediaCleanupTaskJpaEntity.of(aVideoId.getValue()));
+
+        //when
+        final var actualProcessed = target.drain();
+        final var actualSecondRun = target.drain();
+
+        //then
+        Assertions.assertEquals(1, actualProcessed);
+        Assertions.assertEquals(0, actualSecondRun);
+
+        final var actualTask = taskRepository.findById(aVideoId.getValue()).get();
+        Assertions.assertEquals(1, actualTask.getAttempts());
+        Assertions.assertEquals(expectedError, actualTask.getLastError());
+        Assertions.assertTrue(actualTask.getNextAttemptAt().isAfter(Instant.now().plusSeconds(30)));
+
+        Assertions.assertEquals(1, meterRegistry.get("media.cleanup.queue.depth").gauge().value());
+        Assertions.assertEquals(1, meterRegistry.get("media.cleanup.tasks").tag("outcome", "failure").counter().count());
+
+        target.shutdown();
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
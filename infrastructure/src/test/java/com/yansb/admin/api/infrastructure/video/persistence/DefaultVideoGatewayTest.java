@@ -11,8 +11,11 @@ import com.yansb.admin.api.domain.category.CategoryID;
 import com.yansb.admin.api.domain.genre.Genre;
 import com.yansb.admin.api.domain.genre.GenreGateway;
 import com.yansb.admin.api.domain.genre.GenreID;
+import com.yansb.admin.api.domain.pagination.CountMode;
+import com.yansb.admin.api.domain.pagination.Pagination;
 import com.yansb.admin.api.domain.video.*;
 import com.yansb.admin.api.infrastructure.video.DefaultVideoGateway;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +24,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
+
 import java.time.Year;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 @IntegrationTest
 class DefaultVideoGatewayTest {
@@ -42,6 +48,12 @@ class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private MediaCleanupTaskRepository cleanupTaskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
 
     private CastMember yan;
     private CastMember gabriel;
@@ -238,6 +250,46 @@ class DefaultVideoGatewayTest {
         Assertions.assertNull(persistedVideo.getThumbnail_half());
     }
 
+    @Test
+    void givenManyValidVideos_whenCallsCreateAll_shouldInsertThemInJdbcBatchesWithoutSelects() {
+        // given
+        final var expectedCount = 120;
+        final var videos = IntStream.range(0, expectedCount)
+                .mapToObj(i -> Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(documentaries.getId()),
+                        Set.of(action.getId()),
+                        Set.of(yan.getId())
+                ))
+                .toList();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        final var actualVideos = videoGateway.createAll(videos);
+
+        // then
+        Assertions.assertEquals(expectedCount, actualVideos.size());
+        Assertions.assertEquals(expectedCount * 4, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() < expectedCount,
+                () -> "Expected batched inserts but %s statements were prepared".formatted(statistics.getPrepareStatementCount()));
+
+        Assertions.assertEquals(expectedCount, videoRepository.count());
+
+        final var persistedVideo = videoGateway.findById(videos.get(0).getId()).orElseThrow();
+        Assertions.assertEquals(Set.of(documentaries.getId()), persistedVideo.getCategories());
+        Assertions.assertEquals(Set.of(action.getId()), persistedVideo.getGenres());
+        Assertions.assertEquals(Set.of(yan.getId()), persistedVideo.getCastMembers());
+    }
+
     @Test
     @Transactional
     void givenAValidVideo_whenCallsUpdate_shouldPersistIt() {
@@ -339,6 +391,101 @@ class DefaultVideoGatewayTest {
         Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(persistedVideo.getCreatedAt()));
     }
 
+    @Test
+    void givenAPersistedVideo_whenCallsUpdateWithANewTitle_shouldIssueASingleUpdate() {
+        //given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(movies.getId(), tvShows.getId()),
+                Set.of(action.getId()),
+                Set.of(yan.getId(), gabriel.getId())
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        final var expectedTitle = Fixture.title();
+        final var updatedVideo = Video.with(aVideo).update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                aVideo.getCastMembers()
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        videoGateway.update(updatedVideo);
+
+        //then
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(0, statistics.getCollectionRecreateCount());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+        Assertions.assertEquals(expectedTitle, persistedVideo.getTitle());
+        Assertions.assertEquals(aVideo.getCategories(), persistedVideo.getCategories());
+        Assertions.assertEquals(aVideo.getCastMembers(), persistedVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getVideo(), persistedVideo.getVideo());
+    }
+
+    @Test
+    void givenAPersistedVideo_whenCallsUpdateSwappingACategory_shouldOnlyTouchThatRow() {
+        //given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(movies.getId(), tvShows.getId()),
+                Set.of(action.getId(), drama.getId()),
+                Set.of(yan.getId())
+        ));
+
+        final var expectedCategories = Set.of(movies.getId(), documentaries.getId());
+        final var updatedVideo = Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                aVideo.getGenres(),
+                aVideo.getCastMembers()
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        videoGateway.update(updatedVideo);
+
+        //then
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+        Assertions.assertEquals(expectedCategories, persistedVideo.getCategories());
+        Assertions.assertEquals(aVideo.getGenres(), persistedVideo.getGenres());
+    }
+
     @Test
     void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         //given
@@ -361,6 +508,7 @@ class DefaultVideoGatewayTest {
         videoGateway.deleteById(anId);
         //then
         Assertions.assertEquals(0, videoRepository.count());
+        Assertions.assertTrue(cleanupTaskRepository.existsById(anId.getValue()));
     }
 
     @Test
@@ -385,6 +533,88 @@ class DefaultVideoGatewayTest {
         videoGateway.deleteById(anId);
         //then
         Assertions.assertEquals(1, videoRepository.count());
+        Assertions.assertEquals(0, cleanupTaskRepository.count());
+    }
+
+    @Test
+    void givenAPendingMedia_whenCallsUpdateMediaStatus_shouldUpdateOnlyThatMedia() {
+        //given
+        final var expectedVideoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailerMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var aVideo = videoGateway.create(aVideoWithoutRelationships()
+                .updateVideoMedia(expectedVideoMedia)
+                .updateTrailerMedia(expectedTrailerMedia));
+
+        final var anId = aVideo.getId();
+
+        //when
+        final var actualResult = videoGateway.updateMediaStatus(
+                anId, expectedVideoMedia.id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        //then
+        Assertions.assertTrue(actualResult);
+
+        final var persistedVideo = videoGateway.findById(anId).get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, persistedVideo.getVideo().get().status());
+        Assertions.assertEquals("encoded/video.mp4", persistedVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, persistedVideo.getTrailer().get().status());
+        Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    void givenAProcessingStatus_whenCallsUpdateMediaStatus_shouldKeepTheEncodedPath() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = videoGateway.create(aVideoWithoutRelationships().updateVideoMedia(expectedMedia));
+
+        //when
+        final var actualResult = videoGateway.updateMediaStatus(
+                aVideo.getId(), expectedMedia.id(), MediaStatus.PROCESSING, null);
+
+        //then
+        Assertions.assertTrue(actualResult);
+
+        final var persistedMedia = videoGateway.findById(aVideo.getId()).get().getVideo().get();
+        Assertions.assertEquals(MediaStatus.PROCESSING, persistedMedia.status());
+        Assertions.assertEquals(expectedMedia.encodedLocation(), persistedMedia.encodedLocation());
+    }
+
+    @Test
+    void givenACompletedMedia_whenCallsUpdateMediaStatusWithAStaleStatus_shouldNotRegress() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = videoGateway.create(aVideoWithoutRelationships().updateVideoMedia(expectedMedia));
+        videoGateway.updateMediaStatus(aVideo.getId(), expectedMedia.id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        //when
+        final var actualResult = videoGateway.updateMediaStatus(
+                aVideo.getId(), expectedMedia.id(), MediaStatus.PROCESSING, null);
+
+        //then
+        Assertions.assertFalse(actualResult);
+        Assertions.assertEquals(
+                MediaStatus.COMPLETED,
+                videoGateway.findById(aVideo.getId()).get().getVideo().get().status()
+        );
+    }
+
+    @Test
+    void givenAMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldNotUpdateIt() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = videoGateway.create(aVideoWithoutRelationships().updateVideoMedia(expectedMedia));
+        final var anotherVideo = videoGateway.create(aVideoWithoutRelationships());
+
+        //when
+        final var actualResult = videoGateway.updateMediaStatus(
+                anotherVideo.getId(), expectedMedia.id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        //then
+        Assertions.assertFalse(actualResult);
+        Assertions.assertEquals(
+                MediaStatus.PENDING,
+                videoGateway.findById(aVideo.getId()).get().getVideo().get().status()
+        );
     }
 
     @Test
@@ -731,6 +961,156 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals("Narcos", actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsFindAllInCursorMode_shouldSeekThroughFilteredVideos() {
+        //given
+        mockVideos();
+
+        final var expectedPerPage = 1;
+
+        final var aQuery =
+                new VideoSearchQuery(
+                        0,
+                        expectedPerPage,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(tvShows.getId()),
+                        Set.of(),
+                        Set.of(),
+                        ""
+                );
+        //when
+        final var actualFirstPage = videoGateway.findAll(aQuery);
+        final var actualSecondPage = videoGateway.findAll(new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "",
+                "title",
+                "asc",
+                Set.of(tvShows.getId()),
+                Set.of(),
+                Set.of(),
+                actualFirstPage.nextCursor()
+        ));
+
+        //then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualFirstPage.total());
+        Assertions.assertEquals(expectedPerPage, actualFirstPage.items().size());
+        Assertions.assertEquals("American Horror history", actualFirstPage.items().get(0).title());
+        Assertions.assertNotNull(actualFirstPage.nextCursor());
+
+        Assertions.assertEquals(expectedPerPage, actualSecondPage.items().size());
+        Assertions.assertEquals("Narcos", actualSecondPage.items().get(0).title());
+        Assertions.assertNull(actualSecondPage.nextCursor());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAll_shouldSkipTheCountQuery() {
+        //given
+        mockVideos();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var aQuery =
+                new VideoSearchQuery(
+                        0,
+                        1,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(tvShows.getId()),
+                        Set.of(),
+                        Set.of(),
+                        null,
+                        CountMode.NONE
+                );
+
+        statistics.clear();
+
+        //when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        //then
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals("American Horror history", actualPage.items().get(0).title());
+        Assertions.assertTrue(actualPage.hasNext());
+    }
+
+    @Test
+    public void givenCountModeEstimated_whenCallsFindAll_shouldCountOncePerFilterSignature() {
+        //given
+        mockVideos();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var aQuery =
+                new VideoSearchQuery(
+                        0,
+                        1,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(),
+                        Set.of(),
+                        Set.of(yan.getId()),
+                        null,
+                        CountMode.ESTIMATED
+                );
+
+        //when
+        final var actualFirstPage = videoGateway.findAll(aQuery);
+
+        statistics.clear();
+        final var actualSecondPage = videoGateway.findAll(aQuery);
+
+        //then
+        Assertions.assertEquals(2, actualFirstPage.total());
+        Assertions.assertEquals(2, actualSecondPage.total());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(actualSecondPage.hasNext());
+    }
+
+    @Test
+    public void givenAVideoWithManyAssociations_whenCallsFindAllFilteringByOne_shouldCountItOnce() {
+        //given
+        videoGateway.create(Video.newVideo(
+                "Breaking Bad",
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(movies.getId(), tvShows.getId(), documentaries.getId()),
+                Set.of(action.getId(), drama.getId()),
+                Set.of(yan.getId(), gabriel.getId())
+        ));
+
+        final var expectedPerPage = 10;
+        final var expectedTotal = 1;
+        final var expectedPage = 0;
+
+        final var aQuery =
+                new VideoSearchQuery(
+                        expectedPage,
+                        expectedPerPage,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(yan.getId()),
+                        Set.of(),
+                        Set.of()
+                );
+        //when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        //then
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedTotal, actualPage.items().size());
+        Assertions.assertEquals("Breaking Bad", actualPage.items().get(0).title());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "scr, 0, 10, 1, 1, Scream",
@@ -822,6 +1202,21 @@ class DefaultVideoGatewayTest {
     }
 
 
+    private static Video aVideoWithoutRelationships() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "Scream",